@@ -0,0 +1,152 @@
+package org.example.expert;
+
+import com.jayway.jsonpath.JsonPath;
+import org.example.expert.support.BenchmarkApplication;
+import org.example.expert.support.BenchmarkDataSeeder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * JwtFilter → AuthUserArgumentResolver → 컨트롤러 → 서비스 → H2 까지 요청 한 건을 프로세스 안에서 처리합니다.
+ * gc 프로파일러와 함께 실행하면 엔드포인트별 요청당 할당량(gc.alloc.rate.norm)을 볼 수 있고,
+ * jmhAllocationCheck 태스크가 이를 src/jmh/resources/allocation-baseline.properties 와 비교합니다.
+ * ./gradlew jmh -Pjmh.includes=RequestPipelineBenchmark -Pjmh.profilers=gc jmhAllocationCheck
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class RequestPipelineBenchmark {
+
+    private static final int USER_COUNT = 100;
+    private static final int TODO_COUNT = 100;
+    private static final int COMMENTS_PER_TODO = 10;
+    private static final int MANAGERS_PER_TODO = 3;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    private RequestBuilder signin;
+    private RequestBuilder getUser;
+    private RequestBuilder getTodos;
+    private RequestBuilder getTodo;
+    private RequestBuilder getTodoNotModified;
+    private RequestBuilder getComments;
+    private RequestBuilder getManagers;
+    private RequestBuilder invalidToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start();
+        BenchmarkDataSeeder.Seed seed = BenchmarkDataSeeder.seed(context, USER_COUNT, TODO_COUNT, COMMENTS_PER_TODO, MANAGERS_PER_TODO);
+
+        FilterRegistrationBean<?> jwtFilter = context.getBean("jwtFilter", FilterRegistrationBean.class);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilter(jwtFilter.getFilter(), "/*")
+                .build();
+
+        signin = post("/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + BenchmarkDataSeeder.EMAIL + "\",\"password\":\"" + BenchmarkDataSeeder.PASSWORD + "\"}");
+        String bearerToken = JsonPath.read(performOk(signin).getContentAsString(), "$.bearerToken");
+
+        getUser = get("/users/{userId}", seed.userId()).header("Authorization", bearerToken);
+        getTodos = get("/todos").header("Authorization", bearerToken);
+        getTodo = get("/todos/{todoId}", seed.todoId()).header("Authorization", bearerToken);
+        getComments = get("/todos/{todoId}/comments", seed.todoId()).header("Authorization", bearerToken);
+        getManagers = get("/todos/{todoId}/managers", seed.todoId()).header("Authorization", bearerToken);
+        invalidToken = get("/todos").header("Authorization", "Bearer invalid");
+
+        for (RequestBuilder request : new RequestBuilder[]{getUser, getTodos, getTodo, getComments, getManagers}) {
+            performOk(request);
+        }
+
+        String todoETag = performOk(getTodo).getHeader(HttpHeaders.ETAG);
+        getTodoNotModified = get("/todos/{todoId}", seed.todoId())
+                .header("Authorization", bearerToken)
+                .header(HttpHeaders.IF_NONE_MATCH, todoETag);
+        int status = mockMvc.perform(getTodoNotModified).andReturn().getResponse().getStatus();
+        if (status != 304) {
+            context.close();
+            throw new IllegalStateException("If-None-Match 요청이 304 가 아닙니다: " + status);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse signin() throws Exception {
+        return perform(signin);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getUser() throws Exception {
+        return perform(getUser);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getTodos() throws Exception {
+        return perform(getTodos);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getTodo() throws Exception {
+        return perform(getTodo);
+    }
+
+    // 클라이언트가 가진 ETag 가 최신이면 버전만 읽고 304 로 응답합니다.
+    @Benchmark
+    public MockHttpServletResponse getTodoNotModified() throws Exception {
+        return perform(getTodoNotModified);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getComments() throws Exception {
+        return perform(getComments);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getManagers() throws Exception {
+        return perform(getManagers);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse invalidToken() throws Exception {
+        return perform(invalidToken);
+    }
+
+    // 준비 단계에서 요청이 실패하면 잘못된 경로를 측정하지 않도록 바로 중단합니다.
+    private MockHttpServletResponse performOk(RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        if (response.getStatus() != 200) {
+            context.close();
+            throw new IllegalStateException(request + " 요청이 실패했습니다: " + response.getStatus() + " " + response.getContentAsString());
+        }
+        return response;
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+        if (response.getStatus() >= 500) {
+            throw new IllegalStateException(request + " 요청이 실패했습니다: " + response.getStatus());
+        }
+        return response;
+    }
+}
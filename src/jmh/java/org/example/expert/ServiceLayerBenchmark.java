@@ -0,0 +1,93 @@
+package org.example.expert;
+
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.support.BenchmarkApplication;
+import org.example.expert.support.BenchmarkDataSeeder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 호출 한 건의 비용을 데이터 규모별로 측정합니다. HTTP 계층은 거치지 않습니다.
+ * 유저 1,000명, 일정당 댓글 10개와 담당자 3명(작성자 포함)을 기준으로 일정 수만 바꿔가며 시드합니다.
+ * 토큰 발급/검증 비용은 JwtUtilBenchmark 에서 따로 측정합니다.
+ * ./gradlew jmh -Pjmh.includes=ServiceLayerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class ServiceLayerBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int COMMENTS_PER_TODO = 10;
+    private static final int MANAGERS_PER_TODO = 2;
+
+    @Param({"1000", "100000"})
+    public int todoCount;
+
+    // 상수 폴딩을 막기 위해 final 이 아닌 필드로 둡니다.
+    private int page = 1;
+    private int size = 10;
+    private long todoId;
+    private SigninRequest signinRequest;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private CommentService commentService;
+    private ManagerService managerService;
+    private AuthService authService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkDataSeeder.Seed seed = BenchmarkDataSeeder.seed(context, USER_COUNT, todoCount, COMMENTS_PER_TODO, MANAGERS_PER_TODO);
+        todoId = seed.todoId();
+        signinRequest = new SigninRequest(BenchmarkDataSeeder.EMAIL, BenchmarkDataSeeder.PASSWORD);
+
+        todoService = context.getBean(TodoService.class);
+        commentService = context.getBean(CommentService.class);
+        managerService = context.getBean(ManagerService.class);
+        authService = context.getBean(AuthService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TodoResponse> getTodos() {
+        return todoService.getTodos(page, size);
+    }
+
+    @Benchmark
+    public TodoResponse getTodo() {
+        return todoService.getTodo(todoId);
+    }
+
+    @Benchmark
+    public void getComments(Blackhole blackhole) {
+        commentService.forEachComment(todoId, blackhole::consume);
+    }
+
+    @Benchmark
+    public void getManagers(Blackhole blackhole) {
+        managerService.forEachManager(todoId, blackhole::consume);
+    }
+
+    @Benchmark
+    public SigninResponse signin() {
+        return authService.signin(signinRequest);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기본 형식과 압축 형식(jwt.compact-claims) 토큰의 발급/검증 비용을 비교합니다.
+ * Authorization 헤더 크기는 각 trial 시작 시 출력됩니다.
+ * ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "this is benchmark secret key this is benchmark secret key this is benchmark secret key".getBytes());
+
+    @Param({"false", "true"})
+    public boolean compactClaims;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        setField("secretKey", SECRET_KEY);
+        setField("compactClaims", compactClaims);
+        jwtUtil.init();
+
+        String bearerToken = jwtUtil.createToken(1L, "someone@example.com", UserRole.USER, 0);
+        token = jwtUtil.substringToken(bearerToken);
+        System.out.printf("%ncompactClaims=%s Authorization header: %d bytes%n", compactClaims, bearerToken.length());
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken(1L, "someone@example.com", UserRole.USER, 0);
+    }
+
+    @Benchmark
+    public UserRole verifyToken() {
+        Claims claims = jwtUtil.extractClaims(token);
+        return jwtUtil.extractUserRole(claims);
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtUtil, value);
+    }
+}
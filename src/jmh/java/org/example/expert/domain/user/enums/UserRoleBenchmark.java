@@ -0,0 +1,39 @@
+package org.example.expert.domain.user.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 역할 조회 비용을 비교합니다.
+ * gc 프로파일러로 실행하면 legacyOf 만 호출당 할당이 발생하는 것을 확인할 수 있습니다.
+ * ./gradlew jmh -Pjmh.includes=UserRoleBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserRoleBenchmark {
+
+    private String roleName = "USER";
+    private int roleCode = UserRole.USER.getCode();
+
+    @Benchmark
+    public UserRole legacyOf() {
+        return Arrays.stream(UserRole.values())
+                .filter(r -> r.name().equalsIgnoreCase(roleName))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+    }
+
+    @Benchmark
+    public UserRole of() {
+        return UserRole.of(roleName);
+    }
+
+    @Benchmark
+    public UserRole fromCode() {
+        return UserRole.fromCode(roleCode);
+    }
+}
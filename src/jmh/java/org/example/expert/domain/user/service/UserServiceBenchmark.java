@@ -0,0 +1,98 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 변경 한 건당 CPU 비용을 비교합니다.
+ * legacy* 는 기존 흐름(정규식 검증 + bcrypt 3회), 나머지는 현재 UserService 구현입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserServiceBenchmark {
+
+    private static final String OLD_PASSWORD = "Password1234!";
+    private static final String NEW_PASSWORD = "Newpassword1234!";
+
+    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private final UserChangePasswordRequest request = new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD);
+
+    // 상수 폴딩을 막기 위해 final 이 아닌 필드로 둡니다.
+    private String candidatePassword = NEW_PASSWORD;
+    private String encodedOldPassword;
+    private User user;
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encodedOldPassword = passwordEncoder.encode(OLD_PASSWORD);
+        user = new User("a@a.com", encodedOldPassword, UserRole.USER);
+        userService = new UserService(findByIdOnly(user), passwordEncoder, new TokenRevocationList());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPassword() {
+        user.changePassword(encodedOldPassword);
+    }
+
+    @Benchmark
+    public String changePassword() {
+        userService.changePassword(1L, request);
+        return user.getPassword();
+    }
+
+    @Benchmark
+    public String legacyChangePassword() {
+        String newPassword = request.getNewPassword();
+        if (newPassword.length() < 8 || !newPassword.matches(".*\\d.*") || !newPassword.matches(".*[A-Z].*")) {
+            throw new InvalidRequestException("새 비밀번호는 8자 이상이어야 하고, 숫자와 대문자를 포함해야 합니다.");
+        }
+        if (passwordEncoder.matches(newPassword, user.getPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        }
+        if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        }
+        user.changePassword(passwordEncoder.encode(newPassword));
+        return user.getPassword();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean validPassword() {
+        return userService.validPassword(candidatePassword);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean legacyValidPassword() {
+        return candidatePassword.length() < 8 ||
+                !candidatePassword.matches(".*\\d.*") ||
+                !candidatePassword.matches(".*[A-Z].*");
+    }
+
+    // findById 만 응답하는 가짜 UserRepository
+    private static UserRepository findByIdOnly(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if ("findById".equals(method.getName())) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
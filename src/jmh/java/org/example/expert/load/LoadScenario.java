@@ -0,0 +1,226 @@
+package org.example.expert.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.dataset.ZipfSampler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * seed 프로필로 데이터를 채운 서버에 기존 API 를 섞어 호출하고, 엔드포인트별 처리량과 지연 시간 백분위를 출력합니다.
+ * 스레드마다 user{번호}@example.com 으로 로그인한 뒤 load.seed 로 고정된 순서의 요청을 보내므로, 같은 데이터와 설정이면 같은 요청이 재현됩니다.
+ * 로그인 제한(IP 당 기본 20회)에 걸리지 않도록 스레드 수는 그보다 작게 두거나 제한 설정을 늘려야 합니다.
+ * ./gradlew loadTest -Pload.baseUrl=http://localhost:8080 -Pload.threads=16 -Pload.duration=60
+ */
+public final class LoadScenario {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl = System.getProperty("load.baseUrl", "http://localhost:8080");
+    private final int threads = Integer.getInteger("load.threads", 16);
+    private final int warmupSeconds = Integer.getInteger("load.warmup", 10);
+    private final int durationSeconds = Integer.getInteger("load.duration", 60);
+    private final long seed = Long.getLong("load.seed", 42);
+    private final double skew = Double.parseDouble(System.getProperty("load.skew", "1.1"));
+    private final String password = System.getProperty("load.password", "Password1234");
+
+    private LoadScenario() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadScenario().run();
+    }
+
+    private void run() throws Exception {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 1; i <= threads; i++) {
+            String body = "{\"email\":\"user" + i + "@example.com\",\"password\":\"" + password + "\"}";
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/auth/signin"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("user" + i + " 로그인 실패: " + response.statusCode() + " " + response.body());
+            }
+            tokens.add(OBJECT_MAPPER.readTree(response.body()).get("bearerToken").asText());
+        }
+
+        JsonNode page = OBJECT_MAPPER.readTree(send(get("/todos?page=1&size=1", tokens.get(0))).body());
+        long todoCount = page.path("page").path("totalElements").asLong();
+        if (todoCount == 0) {
+            throw new IllegalStateException("일정이 없습니다. seed 프로필로 데이터를 먼저 생성하세요.");
+        }
+        System.out.printf("baseUrl=%s threads=%d todos=%d warmup=%ds duration=%ds seed=%d%n",
+                baseUrl, threads, todoCount, warmupSeconds, durationSeconds, seed);
+
+        long warmupEnd = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long end = warmupEnd + durationSeconds * 1_000_000_000L;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Recorder[]>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(tokens.get(i), new Random(seed + i), new ZipfSampler(todoCount, skew), warmupEnd, end);
+            futures.add(executor.submit(worker::call));
+        }
+
+        Recorder[] total = Recorder.forAllOperations();
+        for (Future<Recorder[]> future : futures) {
+            Recorder[] recorders = future.get();
+            for (Operation operation : Operation.values()) {
+                total[operation.ordinal()].merge(recorders[operation.ordinal()]);
+            }
+        }
+        executor.shutdown();
+
+        System.out.printf("%-12s %10s %8s %10s %10s %10s %10s %10s%n", "operation", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+        for (Operation operation : Operation.values()) {
+            total[operation.ordinal()].print(operation.name(), durationSeconds);
+        }
+    }
+
+    private HttpRequest.Builder get(String path, String token) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", token).GET();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    // 조회 위주의 요청 비율입니다. 가중치의 합은 100 입니다.
+    private enum Operation {
+        TODO_LIST(45), TODO_DETAIL(20), COMMENTS(15), MANAGERS(10), USER(5), COMMENT_SAVE(5);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(Random random) {
+            int value = random.nextInt(100);
+            for (Operation operation : values()) {
+                value -= operation.weight;
+                if (value < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+
+    private class Worker {
+        private final String token;
+        private final Random random;
+        private final ZipfSampler todoSampler;
+        private final long warmupEnd;
+        private final long end;
+
+        Worker(String token, Random random, ZipfSampler todoSampler, long warmupEnd, long end) {
+            this.token = token;
+            this.random = random;
+            this.todoSampler = todoSampler;
+            this.warmupEnd = warmupEnd;
+            this.end = end;
+        }
+
+        Recorder[] call() throws Exception {
+            Recorder[] recorders = Recorder.forAllOperations();
+            long now;
+            while ((now = System.nanoTime()) < end) {
+                Operation operation = Operation.pick(random);
+                HttpRequest.Builder request = request(operation);
+                boolean success;
+                try {
+                    int status = send(request).statusCode();
+                    success = status >= 200 && status < 300;
+                } catch (IOException e) {
+                    success = false;
+                }
+                long latency = System.nanoTime() - now;
+                if (now >= warmupEnd) {
+                    recorders[operation.ordinal()].record(latency, success);
+                }
+            }
+            return recorders;
+        }
+
+        private HttpRequest.Builder request(Operation operation) {
+            long todoId = todoSampler.sample(random);
+            return switch (operation) {
+                // 앞쪽 페이지일수록 자주 조회합니다.
+                case TODO_LIST -> get("/todos?page=" + Math.min(todoSampler.sample(random), 100) + "&size=10", token);
+                case TODO_DETAIL -> get("/todos/" + todoId, token);
+                case COMMENTS -> get("/todos/" + todoId + "/comments", token);
+                case MANAGERS -> get("/todos/" + todoId + "/managers", token);
+                case USER -> get("/users/" + (random.nextInt(threads) + 1), token);
+                case COMMENT_SAVE -> HttpRequest.newBuilder(uri("/todos/" + todoId + "/comments"))
+                        .header("Authorization", token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"load test\"}"));
+            };
+        }
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+
+        static Recorder[] forAllOperations() {
+            Recorder[] recorders = new Recorder[Operation.values().length];
+            for (int i = 0; i < recorders.length; i++) {
+                recorders[i] = new Recorder();
+            }
+            return recorders;
+        }
+
+        void record(long latency, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        void print(String name, int durationSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-12s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                    name, count, errors, (double) count / durationSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.support;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 벤치마크용으로 인메모리 H2 위에서 애플리케이션 컨텍스트를 띄웁니다.
+ * trial 마다 새 DB 를 사용하며, 로그인 제한은 측정에 영향을 주지 않도록 사실상 해제합니다.
+ */
+public final class BenchmarkApplication {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(
+            "this is benchmark secret key this is benchmark secret key this is benchmark secret key".getBytes());
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        return start(Map.of());
+    }
+
+    public static ConfigurableApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        defaults.put("spring.datasource.username", "sa");
+        defaults.put("spring.jpa.hibernate.ddl-auto", "create");
+        defaults.put("spring.jpa.open-in-view", "false");
+        defaults.put("server.port", "0");
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("jwt.secret.key", SECRET_KEY);
+        defaults.put("auth.signin.rate-limit.email-capacity", Integer.MAX_VALUE);
+        defaults.put("auth.signin.rate-limit.ip-capacity", Integer.MAX_VALUE);
+        defaults.put("search.index-dir", tempDirectory("todo-index").toString());
+        defaults.putAll(properties);
+
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .properties(defaults)
+                .run();
+    }
+
+    private static Path tempDirectory(String prefix) {
+        try {
+            return Files.createTempDirectory(prefix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
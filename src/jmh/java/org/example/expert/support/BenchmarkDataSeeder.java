@@ -0,0 +1,109 @@
+package org.example.expert.support;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.auth.service.EmailBloomFilter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 빈 DB 에 유저, 일정, 댓글, 담당자를 JDBC 배치 insert 로 저장합니다.
+ * 새로 만든 테이블이므로 id 는 1 부터 순서대로 부여되며, 1번 유저가 벤치마크 대상 유저이고 1번 일정의 작성자입니다.
+ * 일정 작성자와 댓글 작성자, 추가 담당자는 유저들이 돌아가며 맡습니다.
+ */
+public final class BenchmarkDataSeeder {
+
+    public static final String EMAIL = "bench@example.com";
+    public static final String PASSWORD = "Password1234";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkDataSeeder() {
+    }
+
+    public static Seed seed(ApplicationContext context, int userCount, int todoCount, int commentsPerTodo, int managersPerTodo) {
+        if (managersPerTodo >= userCount) {
+            throw new IllegalArgumentException("담당자 수는 유저 수보다 작아야 합니다.");
+        }
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        EmailBloomFilter emailBloomFilter = context.getBean(EmailBloomFilter.class);
+        // bcrypt 비용을 줄이기 위해 모든 유저가 같은 비밀번호 해시를 사용합니다.
+        String password = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+
+        Batch users = new Batch(jdbcTemplate,
+                "INSERT INTO users (email, password, user_role, role_version, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)");
+        for (int i = 1; i <= userCount; i++) {
+            String email = i == 1 ? EMAIL : "user" + i + "@example.com";
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(userCount - i));
+            users.add(email, password, i == 1 ? "ADMIN" : "USER", createdAt, createdAt);
+            // 이메일 필터는 시작 시점에 채워지므로, 이후 저장한 유저는 직접 등록해야 로그인할 수 있습니다.
+            emailBloomFilter.put(email);
+        }
+        users.flush();
+
+        Batch todos = new Batch(jdbcTemplate,
+                "INSERT INTO todos (title, contents, weather, user_id, comment_count, manager_count, comments_version, managers_version, version, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, 0, ?, ?)");
+        for (int i = 1; i <= todoCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(todoCount - i));
+            todos.add("title " + i, "contents " + i, "Sunny", ownerOf(i, userCount), commentsPerTodo, managersPerTodo + 1, createdAt, createdAt);
+        }
+        todos.flush();
+
+        Batch comments = new Batch(jdbcTemplate,
+                "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)");
+        Batch managers = new Batch(jdbcTemplate, "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)");
+        Timestamp commentedAt = Timestamp.valueOf(now);
+        for (long todoId = 1; todoId <= todoCount; todoId++) {
+            long ownerId = ownerOf(todoId, userCount);
+            for (int i = 0; i < commentsPerTodo; i++) {
+                comments.add("comment " + i, (todoId + i) % userCount + 1, todoId, commentedAt, commentedAt);
+            }
+            // 일정 작성자는 항상 담당자로 등록됩니다.
+            managers.add(ownerId, todoId);
+            for (int i = 1; i <= managersPerTodo; i++) {
+                managers.add((ownerId - 1 + i) % userCount + 1, todoId);
+            }
+        }
+        comments.flush();
+        managers.flush();
+
+        return new Seed(1L, 1L);
+    }
+
+    private static long ownerOf(long todoId, int userCount) {
+        return (todoId - 1) % userCount + 1;
+    }
+
+    public record Seed(long userId, long todoId) {
+    }
+
+    private static final class Batch {
+        private final JdbcTemplate jdbcTemplate;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private Batch(JdbcTemplate jdbcTemplate, String sql) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
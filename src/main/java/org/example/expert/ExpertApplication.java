@@ -4,6 +4,8 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 
+import java.util.Map;
+
 import static org.springframework.data.web.config.EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO;
 
 @SpringBootApplication
@@ -11,7 +13,11 @@ import static org.springframework.data.web.config.EnableSpringDataWebSupport.Pag
 public class ExpertApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ExpertApplication.class, args);
+        SpringApplication application = new SpringApplication(ExpertApplication.class);
+        // 댓글, 담당자 스트리밍이 묶음 사이에 DB 커넥션을 반납할 수 있도록 요청 내내 EntityManager 를 열어 두지 않습니다.
+        // 설정 파일에서 spring.jpa.open-in-view 를 지정하면 그 값이 우선합니다.
+        application.setDefaultProperties(Map.of("spring.jpa.open-in-view", "false"));
+        application.run(args);
     }
 
 }
@@ -0,0 +1,39 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * JSON 응답을 Accept-Encoding 에 따라 gzip 으로 압축합니다.
+ * 작은 응답은 압축 비용이 더 크므로 min-response-size 이상일 때만 압축하고,
+ * 길이를 미리 알 수 없는 스트리밍 응답은 항상 압축합니다.
+ * server.compression.* 설정을 그대로 따르며, 설정하지 않으면 켜진 상태로 시작합니다.
+ * Tomcat 은 강한 ETag 가 붙은 응답은 압축하지 않으므로, 커질 수 있는 목록 응답에는 약한 ETag 를 사용합니다.
+ */
+@Configuration
+public class CompressionConfig implements WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> {
+
+    private final boolean enabled;
+    private final DataSize minResponseSize;
+
+    public CompressionConfig(
+            @Value("${server.compression.enabled:true}") boolean enabled,
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize
+    ) {
+        this.enabled = enabled;
+        this.minResponseSize = minResponseSize;
+    }
+
+    @Override
+    public void customize(ConfigurableServletWebServerFactory factory) {
+        Compression compression = new Compression();
+        compression.setEnabled(enabled);
+        compression.setMimeTypes(new String[]{"application/json"});
+        compression.setMinResponseSize(minResponseSize);
+        factory.setCompression(compression);
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+/**
+ * 버전 번호로 만드는 강한 ETag 입니다. 같은 버전이면 응답 본문도 같습니다.
+ * 응답이 여러 값에 따라 달라지면 점으로 이어 붙이며, 첫 번째 값이 엔티티 버전입니다.
+ */
+public final class ETags {
+
+    // 어떤 버전과도 일치하지 않는 값입니다.
+    private static final long UNKNOWN = -1;
+
+    private ETags() {
+    }
+
+    public static String of(long version, long... others) {
+        StringBuilder tag = new StringBuilder().append('"').append(version);
+        for (long other : others) {
+            tag.append('.').append(other);
+        }
+        return tag.append('"').toString();
+    }
+
+    // 압축될 수 있는 응답용입니다. If-None-Match 는 약한 비교를 하므로 304 응답에는 지장이 없습니다.
+    public static String weak(long version) {
+        return "W/" + of(version);
+    }
+
+    // If-Match 가 없거나 * 이면 null 을 반환해 버전을 확인하지 않습니다.
+    // 약한 ETag 나 읽을 수 없는 값은 수정 조건에 쓸 수 없으므로 어떤 버전과도 일치하지 않게 합니다.
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return UNKNOWN;
+        }
+        int end = value.indexOf('.');
+        try {
+            return Long.parseLong(value.substring(1, end < 0 ? value.length() - 1 : end));
+        } catch (NumberFormatException e) {
+            return UNKNOWN;
+        }
+    }
+}
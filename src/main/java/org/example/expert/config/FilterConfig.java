@@ -1,22 +1,41 @@
 package org.example.expert.config;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 
 @Configuration
 @RequiredArgsConstructor
 public class FilterConfig {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserRoleVersionTable userRoleVersionTable;
+    private final UserService userService;
+
+    @Value("${query-count.warn-threshold:10}")
+    private long queryCountWarnThreshold;
 
     @Bean
     public FilterRegistrationBean<JwtFilter> jwtFilter() {
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        registrationBean.setFilter(new JwtFilter(jwtUtil, tokenRevocationList, userRoleVersionTable, userId -> userService.getUser(userId).getEmail()));
         registrationBean.addUrlPatterns("/*"); // 필터를 적용할 URL 패턴을 지정합니다.
 
         return registrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter() {
+        FilterRegistrationBean<QueryCountFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new QueryCountFilter(queryCountWarnThreshold));
+        registrationBean.addUrlPatterns("/*");
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE); // JwtFilter 보다 먼저 실행되도록 합니다.
+
+        return registrationBean;
+    }
 }
@@ -1,44 +1,101 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    // 메시지에 동적인 값이 섞여도 캐시가 무한히 커지지 않도록 제한합니다.
+    static final int MAX_CACHED_RESPONSES = 1024;
+
+    private final ObjectMapper objectMapper;
+    // 상태 코드와 메시지가 같으면 응답 본문도 같으므로, 직렬화된 응답을 재사용합니다.
+    private final Map<ErrorKey, ResponseEntity<byte[]>> cachedResponses = new ConcurrentHashMap<>();
+
     @ExceptionHandler(InvalidRequestException.class)
-    public ResponseEntity<Map<String, Object>> invalidRequestExceptionException(InvalidRequestException ex) {
+    public ResponseEntity<byte[]> invalidRequestExceptionException(InvalidRequestException ex) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
         return getErrorResponse(status, ex.getMessage());
     }
 
     @ExceptionHandler(AuthException.class)
-    public ResponseEntity<Map<String, Object>> handleAuthException(AuthException ex) {
+    public ResponseEntity<byte[]> handleAuthException(AuthException ex) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<byte[]> handleTooManyRequestsException(TooManyRequestsException ex) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<byte[]> handlePreconditionFailedException(PreconditionFailedException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    // 조회 이후 다른 요청이 먼저 같은 행을 수정한 경우입니다.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        return getErrorResponse(status, "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해주세요.");
+    }
+
     @ExceptionHandler(ServerException.class)
-    public ResponseEntity<Map<String, Object>> handleServerException(ServerException ex) {
+    public ResponseEntity<byte[]> handleServerException(ServerException ex) {
         HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
         return getErrorResponse(status, ex.getMessage());
     }
 
-    public ResponseEntity<Map<String, Object>> getErrorResponse(HttpStatus status, String message) {
-        Map<String, Object> errorResponse = new HashMap<>();
+    public ResponseEntity<byte[]> getErrorResponse(HttpStatus status, String message) {
+        ErrorKey key = new ErrorKey(status, message);
+        ResponseEntity<byte[]> cached = cachedResponses.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResponseEntity<byte[]> errorResponse = createErrorResponse(status, message);
+        if (cachedResponses.size() < MAX_CACHED_RESPONSES) {
+            cachedResponses.putIfAbsent(key, errorResponse);
+        }
+        return errorResponse;
+    }
+
+    private ResponseEntity<byte[]> createErrorResponse(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
         errorResponse.put("status", status.name());
         errorResponse.put("code", status.value());
         errorResponse.put("message", message);
 
-        return new ResponseEntity<>(errorResponse, status);
+        try {
+            return ResponseEntity.status(status)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(errorResponse));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답을 직렬화할 수 없습니다.", e);
+        }
     }
-}
 
+    private record ErrorKey(HttpStatus status, String message) {
+    }
+}
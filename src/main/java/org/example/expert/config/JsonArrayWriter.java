@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 목록을 메모리에 모으지 않고 원소마다 바로 응답 스트림에 JSON 배열로 씁니다.
+ * 생성기 버퍼가 차면 그때그때 내보내므로 요청당 힙 사용량이 목록 길이와 관계없이 일정합니다.
+ * 중간에 실패하면 finish() 를 호출하지 않아 닫히지 않은 배열이 전송되므로, 클라이언트가 잘린 응답을 구분할 수 있습니다.
+ * SequenceWriter 는 직렬화기를 원소마다 다시 찾지 않고 재사용합니다.
+ */
+public class JsonArrayWriter {
+
+    private final SequenceWriter sequenceWriter;
+
+    private JsonArrayWriter(SequenceWriter sequenceWriter) {
+        this.sequenceWriter = sequenceWriter;
+    }
+
+    public static JsonArrayWriter start(ObjectMapper objectMapper, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        return new JsonArrayWriter(objectMapper.writer().writeValuesAsArray(response.getOutputStream()));
+    }
+
+    public void write(Object element) {
+        try {
+            sequenceWriter.write(element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void finish() throws IOException {
+        sequenceWriter.close();
+    }
+}
@@ -10,15 +10,23 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
+import java.util.function.LongFunction;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
+    public static final String AUTH_USER_ATTRIBUTE = AuthUser.class.getName();
+
     private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+    private final UserRoleVersionTable userRoleVersionTable;
+    // 이메일이 없는 압축 형식 토큰을 위해 userId 로 이메일을 조회합니다.
+    private final LongFunction<String> emailLoader;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -30,9 +38,9 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        RoutePolicy routePolicy = RoutePolicy.resolve(httpRequest.getRequestURI());
 
-        if (url.startsWith("/auth")) {
+        if (routePolicy == RoutePolicy.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -55,13 +63,33 @@ public class JwtFilter implements Filter {
                 return;
             }
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 리프레시 토큰으로는 API 에 접근할 수 없습니다.
+            if (jwtUtil.isRefreshToken(claims)) {
+                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+                return;
+            }
+
+            long userId = Long.parseLong(claims.getSubject());
+            if (tokenRevocationList.isRevoked(userId, claims.getIssuedAt())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
+
+            if (userRoleVersionTable.isStale(userId, jwtUtil.extractRoleVersion(claims))) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한이 변경되었습니다. 토큰을 다시 발급받아주세요.");
+                return;
+            }
+
+            UserRole userRole = jwtUtil.extractUserRole(claims);
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            // AuthUserArgumentResolver, LogAspect 는 이 객체를 그대로 사용합니다.
+            String email = jwtUtil.extractEmail(claims);
+            AuthUser authUser = email != null
+                    ? new AuthUser(userId, email, userRole)
+                    : new AuthUser(userId, userRole, emailLoader);
+            httpRequest.setAttribute(AUTH_USER_ATTRIBUTE, authUser);
 
-            if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
+            if (routePolicy == RoutePolicy.ADMIN && !UserRole.ADMIN.equals(userRole)) {
                 httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                 return;
             }
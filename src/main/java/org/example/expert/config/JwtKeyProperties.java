@@ -0,0 +1,43 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 서명 키 설정입니다.
+ * <pre>
+ * jwt.signing.algorithm=RS256
+ * jwt.signing.keys[0].kid=2026-10
+ * jwt.signing.keys[0].private-key=(Base64 PKCS#8, 검증만 하는 노드는 생략)
+ * jwt.signing.keys[0].public-key=(Base64 X.509)
+ * jwt.signing.keys[0].activate-at=2026-10-01T00:00:00Z
+ * </pre>
+ * keys 없이 rotation-period 만 지정하면 키 쌍을 직접 생성하여 주기적으로 교체합니다. (단일 노드용)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtKeyProperties {
+
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.HS256;
+    private List<KeyEntry> keys = new ArrayList<>();
+    private Duration rotationPeriod;
+
+    @Getter
+    @Setter
+    public static class KeyEntry {
+        private String kid;
+        private String privateKey;
+        private String publicKey;
+        private Instant activateAt = Instant.EPOCH;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.SignatureException;
+
+import java.security.Key;
+import java.util.Map;
+
+/**
+ * 한 시점의 서명 키와 kid 별 검증 키 묶음입니다.
+ * 불변 객체이므로 JwtUtil 은 volatile 참조 하나만 교체하여 키를 회전하고, 요청 스레드는 락 없이 조회합니다.
+ */
+class JwtKeyRing {
+
+    // kid 헤더가 없는 토큰(HS256 단일 키)을 위한 자리입니다.
+    static final String DEFAULT_KID = "";
+
+    private final SignatureAlgorithm algorithm;
+    private final String activeKid;
+    private final Key signingKey;
+    private final Map<String, Key> verificationKeys;
+    private final long activatedAt;
+
+    JwtKeyRing(SignatureAlgorithm algorithm, String activeKid, Key signingKey, Map<String, Key> verificationKeys, long activatedAt) {
+        this.algorithm = algorithm;
+        this.activeKid = activeKid;
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.activatedAt = activatedAt;
+    }
+
+    SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    String getActiveKid() {
+        return activeKid;
+    }
+
+    Key getSigningKey() {
+        return signingKey;
+    }
+
+    Map<String, Key> getVerificationKeys() {
+        return verificationKeys;
+    }
+
+    long getActivatedAt() {
+        return activatedAt;
+    }
+
+    Key verificationKey(String kid) {
+        Key key = verificationKeys.get(kid == null ? DEFAULT_KID : kid);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT kid: " + kid);
+        }
+        return key;
+    }
+}
@@ -1,51 +1,171 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.security.GeneralSecurityException;
 import java.security.Key;
-import java.util.Base64;
-import java.util.Date;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
+    public static final long ACCESS_TOKEN_TIME = 10 * 60 * 1000L; // 10분
+    public static final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 14일
+
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final String EMAIL_CLAIM = "email";
+    private static final String USER_ROLE_CLAIM = "userRole";
+    // 압축 형식에서는 역할을 한 글자 이름으로 담고, 이메일은 담지 않습니다.
+    private static final String COMPACT_USER_ROLE_CLAIM = "r";
+    // 권한 버전은 0 이면 생략합니다.
+    private static final String ROLE_VERSION_CLAIM = "rv";
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
 
-    @Value("${jwt.secret.key}")
+    @Value("${jwt.secret.key:}")
     private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+
+    @Value("${jwt.compact-claims:false}")
+    private boolean compactClaims;
+
+    @Autowired(required = false)
+    private JwtKeyProperties keyProperties;
+
+    // 설정된 키는 시작 시 한 번만 디코딩해 두고, 회전 시에는 활성 키만 다시 고릅니다.
+    private final List<ConfiguredKey> configuredKeys = new ArrayList<>();
+    // 직접 생성한 키가 교체된 시각입니다. 리프레시 토큰 수명이 지나면 검증 키에서도 제거합니다.
+    private final Map<String, Long> retiredAt = new HashMap<>();
+
+    private volatile JwtKeyRing keyRing;
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        SignatureAlgorithm algorithm = keyProperties == null ? SignatureAlgorithm.HS256 : keyProperties.getAlgorithm();
+
+        if (algorithm.isHmac()) {
+            byte[] bytes = Base64.getDecoder().decode(secretKey);
+            Key key = Keys.hmacShaKeyFor(bytes);
+            keyRing = new JwtKeyRing(algorithm, null, key, Map.of(JwtKeyRing.DEFAULT_KID, key), System.currentTimeMillis());
+        } else {
+            for (JwtKeyProperties.KeyEntry entry : keyProperties.getKeys()) {
+                configuredKeys.add(ConfiguredKey.decode(algorithm, entry));
+            }
+            if (configuredKeys.isEmpty() && keyProperties.getRotationPeriod() == null) {
+                throw new IllegalStateException("jwt.signing.keys 또는 jwt.signing.rotation-period 설정이 필요합니다.");
+            }
+            keyRing = configuredKeys.isEmpty() ? generateKeyRing(algorithm, null) : selectConfiguredKey(algorithm);
+        }
+
+        // 파서는 한 번만 만들고, 검증 키는 kid 로 현재 keyRing 에서 찾습니다.
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    // 새 키 쌍 생성처럼 무거운 작업은 스케줄러 스레드에서 끝낸 뒤 참조만 교체하므로 요청 지연이 생기지 않습니다.
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void rotateKeys() {
+        JwtKeyRing current = keyRing;
+        if (current.getAlgorithm().isHmac()) {
+            return;
+        }
+
+        JwtKeyRing next;
+        if (!configuredKeys.isEmpty()) {
+            next = selectConfiguredKey(current.getAlgorithm());
+            if (Objects.equals(next.getActiveKid(), current.getActiveKid())) {
+                return;
+            }
+        } else {
+            long period = keyProperties.getRotationPeriod().toMillis();
+            if (System.currentTimeMillis() - current.getActivatedAt() < period) {
+                return;
+            }
+            next = generateKeyRing(current.getAlgorithm(), current);
+        }
+
+        keyRing = next;
+        log.info("Rotated JWT signing key {} -> {}", current.getActiveKid(), next.getActiveKid());
     }
 
-    public String createToken(Long userId, String email, UserRole userRole) {
+    public String createToken(Long userId, String email, UserRole userRole, int roleVersion) {
         Date date = new Date();
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .setExpiration(new Date(date.getTime() + ACCESS_TOKEN_TIME))
+                .setIssuedAt(date); // 발급일
+
+        if (compactClaims) {
+            builder.claim(COMPACT_USER_ROLE_CLAIM, userRole.getCode());
+        } else {
+            builder.claim(EMAIL_CLAIM, email)
+                    .claim(USER_ROLE_CLAIM, userRole.getCode());
+        }
+        if (roleVersion != 0) {
+            builder.claim(ROLE_VERSION_CLAIM, roleVersion);
+        }
+
+        return BEARER_PREFIX + signed(builder);
+    }
+
+    // 리프레시 토큰은 Bearer 접두사 없이 발급되며, 회전 시 폐기할 수 있도록 jti 를 가집니다.
+    public String createRefreshToken(Long userId) {
+        Date date = new Date();
+
+        return signed(Jwts.builder()
+                .setSubject(String.valueOf(userId))
+                .setId(UUID.randomUUID().toString())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .setExpiration(new Date(date.getTime() + REFRESH_TOKEN_TIME))
+                .setIssuedAt(date));
+    }
+
+    // 역할은 숫자 코드로 발급하지만, 이전에 이름으로 발급된 토큰도 읽을 수 있습니다.
+    public UserRole extractUserRole(Claims claims) {
+        Object userRole = claims.get(USER_ROLE_CLAIM);
+        if (userRole == null) {
+            userRole = claims.get(COMPACT_USER_ROLE_CLAIM);
+        }
+        if (userRole instanceof Integer code) {
+            return UserRole.fromCode(code);
+        }
+        return UserRole.of((String) userRole);
+    }
+
+    public int extractRoleVersion(Claims claims) {
+        Integer roleVersion = claims.get(ROLE_VERSION_CLAIM, Integer.class);
+        return roleVersion == null ? 0 : roleVersion;
+    }
+
+    // 압축 형식 토큰에는 이메일이 없으므로 null 을 반환합니다.
+    public String extractEmail(Claims claims) {
+        return claims.get(EMAIL_CLAIM, String.class);
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
     }
 
     public String substringToken(String tokenValue) {
@@ -56,10 +176,93 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return parser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    String getActiveKid() {
+        return keyRing.getActiveKid();
+    }
+
+    private String signed(JwtBuilder builder) {
+        JwtKeyRing ring = keyRing;
+        if (ring.getSigningKey() == null) {
+            throw new ServerException("JWT 서명 키가 없습니다.");
+        }
+        if (ring.getActiveKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, ring.getActiveKid());
+        }
+        return builder
+                .signWith(ring.getSigningKey(), ring.getAlgorithm()) // 암호화 알고리즘
+                .compact();
+    }
+
+    // activate-at 이 지난 키 중 가장 최근 키로 서명하고, 설정된 모든 공개키로 검증합니다.
+    private JwtKeyRing selectConfiguredKey(SignatureAlgorithm algorithm) {
+        long now = System.currentTimeMillis();
+        ConfiguredKey active = null;
+        Map<String, Key> verificationKeys = new HashMap<>();
+        for (ConfiguredKey configuredKey : configuredKeys) {
+            verificationKeys.put(configuredKey.kid, configuredKey.publicKey);
+            if (configuredKey.activateAt <= now && (active == null || configuredKey.activateAt > active.activateAt)) {
+                active = configuredKey;
+            }
+        }
+        if (active == null) {
+            throw new IllegalStateException("활성화된 JWT 서명 키가 없습니다.");
+        }
+        return new JwtKeyRing(algorithm, active.kid, active.privateKey, verificationKeys, active.activateAt);
+    }
+
+    private JwtKeyRing generateKeyRing(SignatureAlgorithm algorithm, JwtKeyRing previous) {
+        long now = System.currentTimeMillis();
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        String kid = UUID.randomUUID().toString();
+
+        Map<String, Key> verificationKeys = new HashMap<>();
+        if (previous != null) {
+            verificationKeys.putAll(previous.getVerificationKeys());
+            retiredAt.put(previous.getActiveKid(), now);
+            retiredAt.entrySet().removeIf(entry -> {
+                boolean expired = entry.getValue() + REFRESH_TOKEN_TIME < now;
+                if (expired) {
+                    verificationKeys.remove(entry.getKey());
+                }
+                return expired;
+            });
+        }
+        verificationKeys.put(kid, keyPair.getPublic());
+        return new JwtKeyRing(algorithm, kid, keyPair.getPrivate(), verificationKeys, now);
+    }
+
+    private static class ConfiguredKey {
+        private final String kid;
+        private final Key privateKey;
+        private final Key publicKey;
+        private final long activateAt;
+
+        private ConfiguredKey(String kid, Key privateKey, Key publicKey, long activateAt) {
+            this.kid = kid;
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+            this.activateAt = activateAt;
+        }
+
+        static ConfiguredKey decode(SignatureAlgorithm algorithm, JwtKeyProperties.KeyEntry entry) {
+            if (!StringUtils.hasText(entry.getKid()) || !StringUtils.hasText(entry.getPublicKey())) {
+                throw new IllegalStateException("JWT 키에는 kid 와 public-key 가 필요합니다.");
+            }
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm.isRsa() ? "RSA" : "EC");
+                Key publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(entry.getPublicKey())));
+                Key privateKey = StringUtils.hasText(entry.getPrivateKey())
+                        ? keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(entry.getPrivateKey())))
+                        : null;
+                return new ConfiguredKey(entry.getKid(), privateKey, publicKey, entry.getActivateAt().toEpochMilli());
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("JWT 키를 읽을 수 없습니다: " + entry.getKid(), e);
+            }
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Slf4j(topic = "LoginRateLimiter")
+@Component
+public class LoginRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final TokenBuckets emailBuckets;
+    private final TokenBuckets ipBuckets;
+    private final LongAdder rejectedByEmail = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+
+    @Autowired
+    public LoginRateLimiter(
+            @Value("${auth.signin.rate-limit.email-capacity:5}") int emailCapacity,
+            @Value("${auth.signin.rate-limit.ip-capacity:20}") int ipCapacity,
+            @Value("${auth.signin.rate-limit.refill-seconds:60}") long refillSeconds,
+            @Value("${auth.signin.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${auth.signin.rate-limit.overflow-capacity:100}") int overflowCapacity
+    ) {
+        this(emailCapacity, ipCapacity, TimeUnit.SECONDS.toNanos(refillSeconds), maxKeys, overflowCapacity, System::nanoTime);
+    }
+
+    // overflowCapacity 는 추적할 수 있는 키가 가득 찼을 때 새 키들이 함께 쓰는 버킷의 허용량입니다.
+    LoginRateLimiter(int emailCapacity, int ipCapacity, long refillNanos, int maxKeys, int overflowCapacity, LongSupplier nanoClock) {
+        this.emailBuckets = new TokenBuckets(emailCapacity, overflowCapacity, refillNanos, maxKeys, STRIPES, nanoClock);
+        this.ipBuckets = new TokenBuckets(ipCapacity, overflowCapacity, refillNanos, maxKeys, STRIPES, nanoClock);
+    }
+
+    // 로그인 시도 전에 호출되며, 허용량을 넘으면 DB 조회나 bcrypt 연산 없이 바로 거절합니다.
+    public void acquire(String email, String clientIp) {
+        if (!ipBuckets.tryAcquire(clientIp)) {
+            rejectedByIp.increment();
+            log.debug("Too many signin attempts from ip {}", clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (!emailBuckets.tryAcquire(email.toLowerCase(Locale.ROOT))) {
+            rejectedByEmail.increment();
+            log.debug("Too many signin attempts for email {}", email);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    public long getRejectedByEmail() {
+        return rejectedByEmail.sum();
+    }
+
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+
+    public int getTrackedKeys() {
+        return emailBuckets.size() + ipBuckets.size();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.config;
+
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 개수를 세고, 기준치를 넘으면 N+1 의심 요청으로 경고 로그를 남깁니다.
+ * JwtFilter 의 유저 조회까지 포함하도록 필터 체인의 가장 바깥에 등록합니다.
+ */
+@Slf4j(topic = "QueryCountFilter")
+public class QueryCountFilter implements Filter {
+
+    private final long warnThreshold;
+
+    public QueryCountFilter(long warnThreshold) {
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        QueryCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long count = QueryCounter.stop();
+            if (count > warnThreshold) {
+                HttpServletRequest httpRequest = (HttpServletRequest) request;
+                log.warn("{} {} executed {} SQL statements (threshold {})",
+                        httpRequest.getMethod(), httpRequest.getRequestURI(), count, warnThreshold);
+            }
+        }
+    }
+}
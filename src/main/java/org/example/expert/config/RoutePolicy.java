@@ -0,0 +1,67 @@
+package org.example.expert.config;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * URL 의 첫 번째 경로 세그먼트로 결정되는 접근 정책입니다.
+ * 테이블에 없는 경로는 모두 AUTHENTICATED 입니다.
+ */
+public enum RoutePolicy {
+    PUBLIC, AUTHENTICATED, ADMIN;
+
+    private static final String[] SEGMENTS = {"auth", "admin"};
+    private static final RoutePolicy[] POLICIES = {PUBLIC, ADMIN};
+
+    // 부분 문자열을 만들지 않고 요청 URI 위에서 바로 비교합니다.
+    public static RoutePolicy resolve(String uri) {
+        if (needsNormalization(uri)) {
+            return resolveNormalized(uri);
+        }
+        for (int i = 0; i < SEGMENTS.length; i++) {
+            String segment = SEGMENTS[i];
+            int end = segment.length() + 1;
+            if (uri.length() >= end
+                    && uri.charAt(0) == '/'
+                    && uri.regionMatches(1, segment, 0, segment.length())
+                    && (uri.length() == end || uri.charAt(end) == '/')) {
+                return POLICIES[i];
+            }
+        }
+        return AUTHENTICATED;
+    }
+
+    // Spring MVC 는 세그먼트의 ';' 매개변수를 떼고 퍼센트 인코딩을 풀어서 매핑하므로
+    // "/admin;x=1/users/1" 이나 "/%61dmin/users/1" 도 관리자 API 로 라우팅됩니다.
+    private static boolean needsNormalization(String uri) {
+        for (int i = 0; i < uri.length(); i++) {
+            char c = uri.charAt(i);
+            if (c == ';' || c == '%' || (c == '/' && i + 1 < uri.length() && uri.charAt(i + 1) == '/')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 라우팅과 같은 방식으로 해석한 첫 번째 비어 있지 않은 세그먼트로 판단하되,
+    // 이런 경로는 공개 경로로 인정하지 않아 해석이 어긋나더라도 인증은 거치게 합니다.
+    // 디코딩할 수 없는 경로는 가장 엄격한 정책을 적용합니다.
+    private static RoutePolicy resolveNormalized(String uri) {
+        PathContainer path;
+        try {
+            path = PathContainer.parsePath(uri);
+        } catch (IllegalArgumentException e) {
+            return ADMIN;
+        }
+        for (PathContainer.Element element : path.elements()) {
+            if (element instanceof PathContainer.PathSegment segment && !segment.valueToMatch().isEmpty()) {
+                for (int i = 0; i < SEGMENTS.length; i++) {
+                    if (SEGMENTS[i].equals(segment.valueToMatch())) {
+                        return POLICIES[i] == PUBLIC ? AUTHENTICATED : POLICIES[i];
+                    }
+                }
+                return AUTHENTICATED;
+            }
+        }
+        return AUTHENTICATED;
+    }
+}
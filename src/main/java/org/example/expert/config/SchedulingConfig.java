@@ -0,0 +1,33 @@
+package org.example.expert.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String TODO_PURGE_SCHEDULER = "todoPurgeScheduler";
+
+    // @Scheduled 의 기본 스케줄러입니다. 이벤트 릴레이, 검색 인덱스 갱신, 키 회전처럼 짧은 작업들이
+    // 새벽 재계산 같은 긴 작업 뒤에 밀리지 않도록 스레드를 여러 개 둡니다.
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    // 일정 정리는 chunk 사이에 쉬면서 수십 초씩 실행될 수 있으므로 전용 스레드에서 돌립니다.
+    @Bean(TODO_PURGE_SCHEDULER)
+    public ThreadPoolTaskScheduler todoPurgeScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("todo-purge-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.expert.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.example.expert.domain.monitoring.service.SlowQueryRecorder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class SlowQueryConfig {
+
+    // DataSource 를 감싸 모든 SQL 의 실행 시간을 SlowQueryRecorder 에 넘깁니다.
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> slowQueryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new SlowQueryListener(slowQueryRecorder))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class SlowQueryListener implements QueryExecutionListener {
+
+        // JDBC 호출은 같은 스레드에서 순서대로 끝나므로 스레드별 시작 시각 하나로 충분합니다.
+        private static final ThreadLocal<long[]> STARTED_AT = ThreadLocal.withInitial(() -> new long[1]);
+
+        private final ObjectProvider<SlowQueryRecorder> slowQueryRecorder;
+        private volatile SlowQueryRecorder recorder;
+
+        SlowQueryListener(ObjectProvider<SlowQueryRecorder> slowQueryRecorder) {
+            this.slowQueryRecorder = slowQueryRecorder;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            STARTED_AT.get()[0] = System.nanoTime();
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            long elapsedNanos = System.nanoTime() - STARTED_AT.get()[0];
+            SlowQueryRecorder recorder = recorder();
+            if (recorder == null) {
+                return;
+            }
+            for (QueryInfo queryInfo : queryInfoList) {
+                if (recorder.record(queryInfo.getQuery(), elapsedNanos)) {
+                    recorder.sample(queryInfo.getQuery(), elapsedNanos, parameters(queryInfo));
+                }
+            }
+        }
+
+        // 매 SQL 마다 빈을 찾지 않도록 한 번 찾은 레코더를 재사용합니다.
+        private SlowQueryRecorder recorder() {
+            SlowQueryRecorder current = recorder;
+            if (current == null) {
+                current = slowQueryRecorder.getIfAvailable();
+                recorder = current;
+            }
+            return current;
+        }
+
+        // 배치 실행이면 첫 번째 파라미터 묶음만 사용합니다.
+        private static List<Object> parameters(QueryInfo queryInfo) {
+            List<Object> parameters = new ArrayList<>();
+            if (queryInfo.getParametersList().isEmpty()) {
+                return parameters;
+            }
+            for (ParameterSetOperation operation : queryInfo.getParametersList().get(0)) {
+                Object[] args = operation.getArgs();
+                if (!(args[0] instanceof Integer index)) {
+                    continue;
+                }
+                while (parameters.size() < index) {
+                    parameters.add(null);
+                }
+                parameters.set(index - 1, ParameterSetOperation.isSetNullParameterOperation(operation) ? null : args[1]);
+            }
+            return parameters;
+        }
+    }
+}
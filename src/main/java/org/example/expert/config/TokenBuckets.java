@@ -0,0 +1,133 @@
+package org.example.expert.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 모음입니다.
+ * 각 버킷은 GCRA 방식으로 "다음 토큰이 모두 채워지는 시각" 하나만 AtomicLong 에 저장하므로 락 없이 CAS 로 갱신됩니다.
+ * 키는 여러 stripe 에 나누어 저장하고, stripe 가 용량에 닿으면 해당 stripe 의 유휴 버킷만 정리합니다.
+ * 정리한 뒤에도 자리가 없으면 새 키는 모든 stripe 가 함께 쓰는 overflow 버킷에서 토큰을 받습니다.
+ */
+class TokenBuckets {
+
+    // 정리되어 맵에서 빠진 버킷 표시입니다.
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+    private final long overflowIntervalNanos;
+    private final long overflowBurstNanos;
+    private final LongSupplier nanoClock;
+    private final Stripe[] stripes;
+    private final AtomicLong overflow;
+
+    TokenBuckets(int capacity, int overflowCapacity, long refillPeriodNanos, int maxKeys, int stripeCount, LongSupplier nanoClock) {
+        if (capacity <= 0 || overflowCapacity <= 0 || refillPeriodNanos <= 0 || maxKeys <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("잘못된 토큰 버킷 설정입니다.");
+        }
+        this.emissionIntervalNanos = refillPeriodNanos / capacity;
+        this.burstNanos = emissionIntervalNanos * capacity;
+        this.overflowIntervalNanos = refillPeriodNanos / overflowCapacity;
+        this.overflowBurstNanos = overflowIntervalNanos * overflowCapacity;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.nanoClock = nanoClock;
+        this.stripes = new Stripe[stripeCount];
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(now);
+        }
+        this.overflow = new AtomicLong(now);
+    }
+
+    boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+
+        while (true) {
+            AtomicLong bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                // 상한에 닿으면 유휴 버킷만 정리하고, 그래도 자리가 없으면 기존 버킷을 지우는 대신 새 키를 overflow 버킷으로 보냅니다.
+                // 기존 버킷을 지우면 제한에 걸린 키의 기록까지 사라지므로 키를 대량으로 만들어 제한을 풀 수 있고,
+                // 새 키를 모두 거절하면 키를 대량으로 만드는 것만으로 처음 로그인하는 유저를 모두 막을 수 있기 때문입니다.
+                if (stripe.buckets.size() >= maxKeysPerStripe) {
+                    stripe.evictIdle(now, emissionIntervalNanos);
+                    if (stripe.buckets.size() >= maxKeysPerStripe) {
+                        return consume(overflow, now, overflowIntervalNanos, overflowBurstNanos) == Consumed.ACQUIRED;
+                    }
+                }
+                // 첫 토큰을 소비한 상태로 넣으므로 새 버킷은 유휴로 보이지 않아 정리 대상이 되지 않습니다.
+                bucket = stripe.buckets.putIfAbsent(key, new AtomicLong(now + emissionIntervalNanos));
+                if (bucket == null) {
+                    return true;
+                }
+            }
+
+            Consumed consumed = consume(bucket, now, emissionIntervalNanos, burstNanos);
+            if (consumed != Consumed.RETIRED) {
+                return consumed == Consumed.ACQUIRED;
+            }
+            // 정리 중에 제거된 버킷이면 맵에서 다시 찾습니다.
+        }
+    }
+
+    private static Consumed consume(AtomicLong bucket, long now, long intervalNanos, long burstNanos) {
+        long tat = bucket.get();
+        while (tat != RETIRED) {
+            long next = Math.max(tat, now) + intervalNanos;
+            if (next - now > burstNanos) {
+                return Consumed.REJECTED;
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                return Consumed.ACQUIRED;
+            }
+            tat = bucket.get();
+        }
+        return Consumed.RETIRED;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private enum Consumed {
+        ACQUIRED, REJECTED, RETIRED
+    }
+
+    private static class Stripe {
+
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        // 다음 정리 시각으로, 새 키가 몰려도 스캔은 토큰 하나가 채워지는 간격마다 한 번만 합니다.
+        private final AtomicLong nextEvictAt;
+
+        Stripe(long now) {
+            this.nextEvictAt = new AtomicLong(now);
+        }
+
+        void evictIdle(long now, long intervalNanos) {
+            long evictAt = nextEvictAt.get();
+            if (now - evictAt < 0 || !nextEvictAt.compareAndSet(evictAt, now + intervalNanos)) {
+                return;
+            }
+            // 가득 찬(유휴) 버킷만 지웁니다. 지우기 전에 RETIRED 로 바꿔서, 그 사이 토큰을 쓴 버킷은 남기고
+            // 이미 버킷을 읽어 간 스레드는 맵에서 다시 찾게 합니다.
+            buckets.forEach((key, bucket) -> {
+                long tat = bucket.get();
+                if (tat != RETIRED && tat - now <= 0 && bucket.compareAndSet(tat, RETIRED)) {
+                    buckets.remove(key, bucket);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 토큰 목록입니다. 모든 조회는 해시맵 한 번으로 끝납니다.
+ * - 유저 단위: "이 시각 이전에 발급된 토큰은 무효" 를 기록합니다. JwtFilter 는 액세스 토큰을, AuthService 는 리프레시 토큰을
+ *   이 기록으로 거부하며, 리프레시 토큰 수명이 지나면 기록이 필요 없어집니다.
+ * - 리프레시 토큰: 이미 사용된 jti 를 기록하며, 토큰이 만료되면 기록을 지웁니다.
+ * 권한이 바뀐 유저의 액세스 토큰은 UserRoleVersionTable 이 거부합니다.
+ */
+@Component
+public class TokenRevocationList {
+
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedRefreshTokens = new ConcurrentHashMap<>();
+
+    // 유저에게 지금까지 발급된 액세스/리프레시 토큰을 모두 폐기합니다.
+    public void revokeTokens(long userId) {
+        revokeTokensNow(userId);
+
+        // 커밋 전에 이전 정보로 발급된 토큰도 무효화되도록 커밋 이후에 한 번 더 기록합니다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    revokeTokensNow(userId);
+                }
+            });
+        }
+    }
+
+    private void revokeTokensNow(long userId) {
+        // JWT 의 iat 는 초 단위이므로 같은 초에 발급된 토큰까지 무효화합니다.
+        long revokedAt = System.currentTimeMillis() / 1000 * 1000;
+        revokedBefore.merge(userId, revokedAt, Math::max);
+    }
+
+    public boolean isRevoked(long userId, Date issuedAt) {
+        Long revokedAt = revokedBefore.get(userId);
+        if (revokedAt == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() <= revokedAt;
+    }
+
+    // 처음 사용되는 리프레시 토큰이면 폐기 목록에 올리고 true 를 반환합니다. 이미 사용된 토큰이면 false 입니다.
+    public boolean consumeRefreshToken(String jti, Date expiration) {
+        return revokedRefreshTokens.putIfAbsent(jti, expiration.getTime()) == null;
+    }
+
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void prune() {
+        long now = System.currentTimeMillis();
+        revokedBefore.values().removeIf(revokedAt -> revokedAt + JwtUtil.REFRESH_TOKEN_TIME < now);
+        revokedRefreshTokens.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    int size() {
+        return revokedBefore.size() + revokedRefreshTokens.size();
+    }
+}
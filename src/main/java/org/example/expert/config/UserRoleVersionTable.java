@@ -0,0 +1,59 @@
+package org.example.expert.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한이 변경된 적 있는 유저의 현재 권한 버전입니다.
+ * JwtFilter 는 DB 조회 없이 해시맵 조회 한 번으로 이전 권한 버전이 담긴 토큰을 거부합니다.
+ * 시작 시 role_version 이 0 보다 큰 유저만 읽어오므로 테이블은 권한이 바뀐 유저 수만큼만 커집니다.
+ */
+@Slf4j(topic = "UserRoleVersionTable")
+@Component
+@RequiredArgsConstructor
+public class UserRoleVersionTable {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> roleVersions = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (User user : userRepository.findByRoleVersionGreaterThan(0)) {
+            put(user.getId(), user.getRoleVersion());
+        }
+        log.info("Loaded {} role versions", roleVersions.size());
+    }
+
+    // 롤백된 변경이 반영되지 않도록 트랜잭션 커밋 이후에 기록합니다.
+    public void update(long userId, int roleVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(userId, roleVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(userId, roleVersion);
+            }
+        });
+    }
+
+    public boolean isStale(long userId, int tokenRoleVersion) {
+        Integer current = roleVersions.get(userId);
+        return current != null && tokenRoleVersion < current;
+    }
+
+    private void put(long userId, int roleVersion) {
+        roleVersions.merge(userId, roleVersion, Math::max);
+    }
+}
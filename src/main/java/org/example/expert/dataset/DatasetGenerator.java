@@ -0,0 +1,182 @@
+package org.example.expert.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.domain.todo.service.TodoCounterReconciler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * seed 프로필로 실행하면 빈 DB 에 성능 측정용 데이터를 JDBC 배치 insert 로 채운 뒤 그대로 서버를 띄웁니다.
+ * 일정 작성자, 댓글이 달리는 일정, 댓글 작성자, 추가 담당자가 붙는 일정은 Zipf 분포로 골라
+ * 일부 유저와 일정에 데이터가 몰리도록 합니다. 같은 설정과 dataset.seed 로 실행하면 같은 데이터가 만들어집니다.
+ * 유저 이메일은 user{번호}@example.com 이고, 모든 유저의 비밀번호는 dataset.password 입니다.
+ * MySQL 에서는 rewriteBatchedStatements=true 를 함께 설정해야 배치 insert 가 실제로 묶여서 전송됩니다.
+ * ./gradlew bootRun --args='--spring.profiles.active=seed --dataset.todos=1000000'
+ */
+@Slf4j(topic = "DatasetGenerator")
+@Component
+@Profile("seed")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final TodoCounterReconciler todoCounterReconciler;
+    private final int users;
+    private final int todos;
+    private final double commentsPerTodo;
+    private final double managersPerTodo;
+    private final double skew;
+    private final int days;
+    private final long seed;
+    private final String password;
+    private final int batchSize;
+
+    public DatasetGenerator(
+            JdbcTemplate jdbcTemplate,
+            PasswordEncoder passwordEncoder,
+            TodoCounterReconciler todoCounterReconciler,
+            @Value("${dataset.users:10000}") int users,
+            @Value("${dataset.todos:1000000}") int todos,
+            @Value("${dataset.comments-per-todo:5}") double commentsPerTodo,
+            @Value("${dataset.managers-per-todo:1}") double managersPerTodo,
+            @Value("${dataset.skew:1.1}") double skew,
+            @Value("${dataset.days:365}") int days,
+            @Value("${dataset.seed:42}") long seed,
+            @Value("${dataset.password:Password1234}") String password,
+            @Value("${dataset.batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.todoCounterReconciler = todoCounterReconciler;
+        this.users = users;
+        this.todos = todos;
+        this.commentsPerTodo = commentsPerTodo;
+        this.managersPerTodo = managersPerTodo;
+        this.skew = skew;
+        this.days = days;
+        this.seed = seed;
+        this.password = password;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existingUsers != null && existingUsers > 0) {
+            log.info("users 테이블에 데이터가 있어 생성을 건너뜁니다.");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Random random = new Random(seed);
+        ZipfSampler userSampler = new ZipfSampler(users, skew);
+        ZipfSampler todoSampler = new ZipfSampler(todos, skew);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 모든 유저가 같은 비밀번호를 쓰므로 bcrypt 는 한 번만 계산합니다.
+        String encodedPassword = passwordEncoder.encode(password);
+        Batch userBatch = new Batch("users", "INSERT INTO users (email, password, user_role, role_version, created_at, modified_at) VALUES (?, ?, ?, 0, ?, ?)");
+        for (int i = 1; i <= users; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusDays(days).plusSeconds(i));
+            userBatch.add("user" + i + "@example.com", encodedPassword, "USER", createdAt, createdAt);
+        }
+        userBatch.flush();
+
+        // 새 테이블이므로 id 는 1 부터 순서대로 부여됩니다. 일정 작성자는 담당자로도 등록해야 하므로 기억해 둡니다.
+        long[] owners = new long[todos + 1];
+        long spanSeconds = days * 24L * 60 * 60;
+        Batch todoBatch = new Batch("todos", "INSERT INTO todos (title, contents, weather, user_id, comment_count, manager_count, comments_version, managers_version, version, created_at, modified_at) VALUES (?, ?, ?, ?, 0, 0, 0, 0, 0, ?, ?)");
+        for (int i = 1; i <= todos; i++) {
+            owners[i] = userSampler.sample(random);
+            Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(spanSeconds - spanSeconds * i / todos));
+            todoBatch.add("title " + i, "contents " + i, "Sunny", owners[i], createdAt, createdAt);
+        }
+        todoBatch.flush();
+
+        Batch commentBatch = new Batch("comments", "INSERT INTO comments (contents, user_id, todo_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)");
+        long comments = Math.round(todos * commentsPerTodo);
+        Timestamp commentedAt = Timestamp.valueOf(now);
+        for (long i = 1; i <= comments; i++) {
+            commentBatch.add("comment " + i, userSampler.sample(random), todoSampler.sample(random), commentedAt, commentedAt);
+        }
+        commentBatch.flush();
+
+        // 일정마다 추가 담당자 수를 먼저 정한 뒤, 일정 안에서는 같은 유저가 두 번 뽑히지 않게 고릅니다.
+        int[] extraPerTodo = new int[todos + 1];
+        long requestedManagers = Math.round(todos * managersPerTodo);
+        for (long i = 1; i <= requestedManagers; i++) {
+            extraPerTodo[(int) todoSampler.sample(random)]++;
+        }
+        Batch managerBatch = new Batch("managers", "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)");
+        long extraManagers = 0;
+        Set<Long> assigned = new HashSet<>();
+        for (int i = 1; i <= todos; i++) {
+            managerBatch.add(owners[i], i);
+            // 작성자를 빼면 users - 1 명까지만 담당자가 될 수 있습니다.
+            int extra = Math.min(extraPerTodo[i], users - 1);
+            assigned.clear();
+            assigned.add(owners[i]);
+            while (assigned.size() <= extra) {
+                // 담당자로 지정되는 유저는 고르게 뽑습니다.
+                long userId = random.nextInt(users) + 1L;
+                if (assigned.add(userId)) {
+                    managerBatch.add(userId, i);
+                }
+            }
+            extraManagers += extra;
+        }
+        managerBatch.flush();
+
+        // 댓글과 담당자는 일정에 무작위로 붙으므로 카운터는 insert 후 한 번에 맞춥니다.
+        todoCounterReconciler.reconcile();
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        long rows = users + todos + comments + todos + extraManagers;
+        log.info("Generated {} users, {} todos, {} comments, {} managers in {} ms ({} rows/s)",
+                users, todos, comments, todos + extraManagers, elapsedMillis, rows * 1000 / Math.max(elapsedMillis, 1));
+    }
+
+    private class Batch {
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(batchSize);
+        private long inserted;
+
+        private Batch(String table, String sql) {
+            this.table = table;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            inserted += rows.size();
+            rows.clear();
+            if (inserted % 100_000 < batchSize) {
+                log.info("{}: {} rows", table, inserted);
+            }
+        }
+    }
+}
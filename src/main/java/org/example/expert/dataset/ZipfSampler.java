@@ -0,0 +1,32 @@
+package org.example.expert.dataset;
+
+import java.util.Random;
+
+/**
+ * 1 ~ n 사이의 값을 순위가 낮을수록(앞 번호일수록) 자주 뽑습니다.
+ * 연속 분포의 역함수로 근사하므로 n 이 수백만이어도 표본 하나를 O(1) 에 뽑습니다.
+ * exponent 가 0 이면 균등 분포이고, 클수록 앞 번호에 몰립니다.
+ */
+public class ZipfSampler {
+
+    private final long n;
+    private final double exponent;
+    private final double upper;
+
+    public ZipfSampler(long n, double exponent) {
+        if (n < 1 || exponent < 0) {
+            throw new IllegalArgumentException("n 은 1 이상, exponent 는 0 이상이어야 합니다.");
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.upper = exponent == 1 ? Math.log(n + 1) : (Math.pow(n + 1, 1 - exponent) - 1);
+    }
+
+    public long sample(Random random) {
+        double u = random.nextDouble();
+        double x = exponent == 1
+                ? Math.exp(u * upper)
+                : Math.pow(u * upper + 1, 1 / (1 - exponent));
+        return Math.min(Math.max((long) x, 1), n);
+    }
+}
@@ -6,8 +6,10 @@ import lombok.Getter;
 public class SigninResponse {
 
     private final String bearerToken;
+    private final String refreshToken;
 
-    public SigninResponse(String bearerToken) {
+    public SigninResponse(String bearerToken, String refreshToken) {
         this.bearerToken = bearerToken;
+        this.refreshToken = refreshToken;
     }
 }
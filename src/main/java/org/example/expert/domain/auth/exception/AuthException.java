@@ -1,6 +1,8 @@
 package org.example.expert.domain.auth.exception;
 
-public class AuthException extends RuntimeException {
+import org.example.expert.domain.common.exception.ExpectedRequestException;
+
+public class AuthException extends ExpectedRequestException {
 
     public AuthException(String message) {
         super(message);
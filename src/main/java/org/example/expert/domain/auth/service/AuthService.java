@@ -1,20 +1,29 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,11 +32,17 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TokenRevocationList tokenRevocationList;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+        // 필터에 없는 이메일은 확실히 미가입 상태이므로 중복 조회를 생략합니다.
+        if (emailBloomFilter.mightContain(signupRequest.getEmail())) {
+            if (userRepository.existsByEmail(signupRequest.getEmail())) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
         String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
@@ -40,24 +55,87 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드에서 먼저 가입한 경우 등 필터가 알지 못하는 중복은 unique 제약으로 걸러집니다.
+            if (isDuplicateEmail(e)) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
-        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole, savedUser.getRoleVersion());
+        String refreshToken = jwtUtil.createRefreshToken(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
-                () -> new InvalidRequestException("가입되지 않은 유저입니다."));
+        // 필터에 없다는 이유만으로 거절하는 것은 필터가 모든 가입을 보는 단일 노드 배포에서만 합니다.
+        boolean filtered = emailBloomFilter.isAuthoritative();
+        if (filtered && !emailBloomFilter.mightContain(signinRequest.getEmail())) {
+            throw new InvalidRequestException("가입되지 않은 유저입니다.");
+        }
+
+        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(() -> {
+            if (filtered) {
+                emailBloomFilter.recordFalsePositive();
+            }
+            return new InvalidRequestException("가입되지 않은 유저입니다.");
+        });
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
-        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 리프레시 토큰은 한 번만 사용할 수 있으며, 사용 시 새 액세스/리프레시 토큰 쌍을 발급합니다.
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Claims claims;
+        try {
+            claims = jwtUtil.extractClaims(tokenRefreshRequest.getRefreshToken());
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (!jwtUtil.isRefreshToken(claims) || claims.getId() == null) {
+            throw new AuthException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        // 비밀번호 변경 등으로 폐기된 토큰이면 jti 를 기록하지 않고 거부합니다.
+        long userId = Long.parseLong(claims.getSubject());
+        if (tokenRevocationList.isRevoked(userId, claims.getIssuedAt())) {
+            throw new AuthException("폐기된 리프레시 토큰입니다.");
+        }
+
+        if (!tokenRevocationList.consumeRefreshToken(claims.getId(), claims.getExpiration())) {
+            throw new AuthException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        // 권한 변경이 반영되도록 유저를 다시 조회합니다. 기본키 조회 한 번이며 bcrypt 연산은 없습니다.
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole(), user.getRoleVersion());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
 
-        return new SigninResponse(bearerToken);
+    // 이메일 외의 제약 위반(예: NOT NULL)까지 중복 이메일로 바꾸지 않도록 제약 이름을 확인합니다.
+    // H2 는 "PUBLIC.UK_USERS_EMAIL_INDEX_4" 처럼 이름을 감싸서 돌려주므로 포함 여부로 비교합니다.
+    private static boolean isDuplicateEmail(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
     }
 }
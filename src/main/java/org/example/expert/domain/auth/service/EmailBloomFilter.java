@@ -0,0 +1,175 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일에 대한 Bloom filter 입니다.
+ * mightContain 이 false 면 이 노드가 본 가입 중에는 해당 이메일이 없으므로 조회를 생략할 수 있습니다.
+ * 다른 노드에서 가입한 이메일은 재시작 전까지 반영되지 않으므로, 없다는 판단으로 요청을 거절하는 것은
+ * single-node 를 켠 경우에만 합니다. 가입 중복 확인은 unique 제약이 최종 판단하므로 여러 노드에서도 필터를 씁니다.
+ */
+@Slf4j(topic = "EmailBloomFilter")
+@Component
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final boolean singleNode;
+    private final double targetFalsePositiveRate;
+    private final long numBits;
+    private final int numHashes;
+    private final AtomicLongArray words;
+
+    private final LongAdder definitelyAbsent = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile boolean loaded;
+
+    @Autowired
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            @Value("${auth.email-filter.enabled:true}") boolean enabled,
+            @Value("${auth.email-filter.single-node:false}") boolean singleNode,
+            @Value("${auth.email-filter.expected-users:1000000}") long expectedUsers,
+            @Value("${auth.email-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        if (expectedUsers <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("잘못된 이메일 필터 설정입니다.");
+        }
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.singleNode = singleNode;
+        this.targetFalsePositiveRate = falsePositiveRate;
+
+        // m = -n ln(p) / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-expectedUsers * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(64, (bits + 63) & ~63L);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedUsers * Math.log(2)));
+        this.words = new AtomicLongArray(Math.toIntExact(numBits >>> 6));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long count = 0;
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            for (String email : (Iterable<String>) emails::iterator) {
+                put(email);
+                count++;
+            }
+        }
+        loaded = true;
+        log.info("Loaded {} emails ({} bits, {} hashes)", count, numBits, numHashes);
+    }
+
+    // true 면 모든 가입이 이 필터에 반영되므로 mightContain 이 false 인 이메일을 미가입으로 판단해도 됩니다.
+    public boolean isAuthoritative() {
+        return singleNode;
+    }
+
+    public boolean mightContain(String email) {
+        // 로딩이 끝나기 전에는 판단할 수 없으므로 항상 DB 를 조회하게 합니다.
+        if (!loaded) {
+            return true;
+        }
+        long h1 = hash(email);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                definitelyAbsent.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String email) {
+        long h1 = hash(email);
+        long h2 = fmix64(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, numBits);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word = words.get(index);
+            while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+                word = words.get(index);
+            }
+        }
+    }
+
+    // mightContain 이 true 였지만 DB 에 없었던 경우 호출합니다.
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    // 예상 가입자 수를 넘겨 필터가 포화되면 조회를 거의 줄이지 못하므로 주기적으로 남깁니다.
+    @Scheduled(fixedDelayString = "${auth.email-filter.report-interval-ms:3600000}", initialDelayString = "${auth.email-filter.report-interval-ms:3600000}")
+    public void report() {
+        if (!loaded) {
+            return;
+        }
+        double estimated = getEstimatedFalsePositiveRate();
+        if (estimated > targetFalsePositiveRate * 2) {
+            log.warn("Email filter is saturated: measured false positive rate {}, estimated {}, target {}",
+                    getMeasuredFalsePositiveRate(), estimated, targetFalsePositiveRate);
+        } else {
+            log.info("Email filter false positive rate: measured {}, estimated {}", getMeasuredFalsePositiveRate(), estimated);
+        }
+    }
+
+    // 실제로 없던 이메일 중 필터가 걸러내지 못한 비율입니다.
+    public double getMeasuredFalsePositiveRate() {
+        long fp = falsePositives.sum();
+        long total = fp + definitelyAbsent.sum();
+        return total == 0 ? 0 : (double) fp / total;
+    }
+
+    // 현재 채워진 비트 비율로 추정한 false positive 확률입니다.
+    public double getEstimatedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / numBits, numHashes);
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    // 대소문자만 다른 이메일은 같은 비트를 쓰게 하여 false negative 가 생기지 않도록 합니다.
+    private static long hash(String email) {
+        String normalized = email.toLowerCase(Locale.ROOT);
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            h ^= normalized.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,11 +1,13 @@
 package org.example.expert.domain.comment.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.service.CommentAdminService;
 import org.example.expert.domain.common.annotation.Logging;
-import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,4 +20,22 @@ public class CommentAdminController {
     public void deleteComment(@PathVariable long commentId) {
         commentAdminService.deleteComment(commentId);
     }
+
+    @Logging
+    @DeleteMapping("/admin/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteComments(@RequestParam List<Long> commentIds) {
+        return ResponseEntity.ok(commentAdminService.deleteComments(commentIds));
+    }
+
+    @Logging
+    @DeleteMapping("/admin/users/{userId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByUser(@PathVariable long userId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByUser(userId));
+    }
+
+    @Logging
+    @DeleteMapping("/admin/todos/{todoId}/comments")
+    public ResponseEntity<CommentBulkDeleteResponse> deleteCommentsByTodo(@PathVariable long todoId) {
+        return ResponseEntity.ok(commentAdminService.deleteCommentsByTodo(todoId));
+    }
 }
@@ -1,23 +1,27 @@
 package org.example.expert.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JsonArrayWriter;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
-import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -28,8 +32,17 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    // 댓글이 바뀌지 않았으면 댓글 목록을 조회하지 않고 304 로 응답합니다.
+    // ETag 를 먼저 읽으므로 본문이 ETag 보다 새로울 수는 있어도 오래될 수는 없습니다.
+    // 댓글 수가 많을 수 있으므로 목록을 만들지 않고 읽는 대로 응답에 씁니다.
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public void getComments(@PathVariable long todoId, WebRequest webRequest, HttpServletResponse response) throws IOException {
+        String eTag = commentService.getCommentsETag(todoId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return;
+        }
+        JsonArrayWriter writer = JsonArrayWriter.start(objectMapper, response);
+        commentService.forEachComment(todoId, writer::write);
+        writer.finish();
     }
 }
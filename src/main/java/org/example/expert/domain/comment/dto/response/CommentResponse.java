@@ -15,4 +15,9 @@ public class CommentResponse {
         this.contents = contents;
         this.user = user;
     }
+
+    // CommentRepository.findNextByTodoId 의 생성자 표현식에서 사용합니다.
+    public CommentResponse(Long id, String contents, Long userId, String userEmail) {
+        this(id, contents, new UserResponse(userId, userEmail));
+    }
 }
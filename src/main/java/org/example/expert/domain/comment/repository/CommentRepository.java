@@ -1,14 +1,45 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 응답 스트리밍용으로 afterId 다음 댓글을 id 순으로 읽는 키셋 쿼리입니다. 엔티티 대신 필요한 컬럼만 읽어
+    // 영속성 컨텍스트에 쌓이지 않게 하고, 인터페이스 프로젝션은 행마다 프록시를 만들므로 생성자 표현식으로 응답 DTO 를 바로 만듭니다.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId AND c.todo.deletedAt IS NULL AND c.id > :afterId ORDER BY c.id")
+    List<CommentResponse> findNextByTodoId(@Param("todoId") Long todoId, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT c.todo.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findTodoIdById(@Param("commentId") Long commentId);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT c.todo.id AS todoId, COUNT(c) AS count FROM Comment c WHERE c.id IN :ids GROUP BY c.todo.id")
+    List<TodoCommentCount> countByIdInGroupByTodoId(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    interface TodoCommentCount {
+        Long getTodoId();
+
+        long getCount();
+    }
 }
@@ -1,18 +1,113 @@
 package org.example.expert.domain.comment.service;
 
-import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.search.service.TodoSearchIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 public class CommentAdminService {
 
     private final CommentRepository commentRepository;
+    private final TodoRepository todoRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ChangeEventPublisher changeEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommentAdminService(
+            CommentRepository commentRepository,
+            TodoRepository todoRepository,
+            TodoSearchIndex todoSearchIndex,
+            ChangeEventPublisher changeEventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${comment.admin.delete-chunk-size:1000}") int chunkSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.todoRepository = todoRepository;
+        this.todoSearchIndex = todoSearchIndex;
+        this.changeEventPublisher = changeEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
+    // 엔티티를 읽지 않고 DELETE 한 번으로 지웁니다.
     @Transactional
     public void deleteComment(long commentId) {
-        commentRepository.deleteById(commentId);
+        commentRepository.findTodoIdById(commentId).ifPresent(todoId -> {
+            commentRepository.deleteByIds(List.of(commentId));
+            todoRepository.addCommentCount(todoId, -1);
+            todoSearchIndex.deleteComment(commentId);
+            changeEventPublisher.publish(EventAggregate.COMMENT, commentId, todoId, ChangeType.DELETED, null);
+        });
+    }
+
+    public CommentBulkDeleteResponse deleteComments(List<Long> commentIds) {
+        if (commentIds == null || commentIds.isEmpty()) {
+            throw new InvalidRequestException("삭제할 댓글 id 가 없습니다.");
+        }
+        long deleted = 0;
+        for (int from = 0; from < commentIds.size(); from += chunkSize) {
+            deleted += deleteChunk(commentIds.subList(from, Math.min(from + chunkSize, commentIds.size())));
+        }
+        return new CommentBulkDeleteResponse(deleted);
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByUser(long userId) {
+        return new CommentBulkDeleteResponse(deleteInChunks(pageable -> commentRepository.findIdsByUserId(userId, pageable)));
+    }
+
+    public CommentBulkDeleteResponse deleteCommentsByTodo(long todoId) {
+        return new CommentBulkDeleteResponse(deleteInChunks(pageable -> commentRepository.findIdsByTodoId(todoId, pageable)));
+    }
+
+    // 지운 행은 다음 조회에 나오지 않으므로 항상 첫 chunk 를 다시 조회합니다.
+    private long deleteInChunks(Function<Pageable, List<Long>> findIds) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deleted = 0;
+        while (true) {
+            List<Long> ids = findIds.apply(chunk);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += deleteChunk(ids);
+        }
+    }
+
+    // chunk 하나를 별도 트랜잭션으로 지워서 대량 삭제 중에도 잠금을 짧게 유지합니다.
+    // 일정별 댓글 수는 지우기 전에 묶어서 세고, 일정마다 한 번씩만 카운터를 줄입니다.
+    private int deleteChunk(List<Long> ids) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<CommentRepository.TodoCommentCount> counts = commentRepository.countByIdInGroupByTodoId(ids);
+            int affected = commentRepository.deleteByIds(ids);
+            for (CommentRepository.TodoCommentCount count : counts) {
+                todoRepository.addCommentCount(count.getTodoId(), -(int) count.getCount());
+            }
+            todoSearchIndex.deleteComments(ids);
+            // chunk 하나를 이벤트 하나로 남기고, 지운 댓글 id 와 영향받은 일정 id 는 payload 에 담습니다.
+            // 한 일정의 댓글만 지웠다면 단건 삭제처럼 todoId 도 채워서 일정별로 걸러 받을 수 있게 합니다.
+            if (affected > 0) {
+                List<Long> todoIds = counts.stream().map(CommentRepository.TodoCommentCount::getTodoId).toList();
+                changeEventPublisher.publish(EventAggregate.COMMENT, null, todoIds.size() == 1 ? todoIds.get(0) : null,
+                        ChangeType.DELETED, Map.of("commentIds", ids, "todoIds", todoIds));
+            }
+            return affected;
+        });
+        return deleted == null ? 0 : deleted;
     }
 }
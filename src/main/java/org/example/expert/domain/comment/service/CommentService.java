@@ -1,6 +1,7 @@
 package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ETags;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
@@ -8,23 +9,34 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.search.service.TodoSearchIndex;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
@@ -39,27 +51,40 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        todoRepository.addCommentCount(todoId, 1);
+        todoSearchIndex.indexComment(savedComment);
 
-        return new CommentSaveResponse(
+        CommentSaveResponse response = new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
                 new UserResponse(user.getId(), user.getEmail())
         );
+        changeEventPublisher.publish(EventAggregate.COMMENT, savedComment.getId(), todoId, ChangeType.CREATED, response);
+        return response;
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    // 일정이 없으면 null 입니다.
+    public String getCommentsETag(long todoId) {
+        return todoRepository.findVersionsById(todoId)
+                .map(versions -> ETags.weak(versions.getCommentsVersion()))
+                .orElse(null);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // 댓글을 STREAM_BATCH_SIZE 개씩 id 순으로 읽어 한 건씩 action 에 넘깁니다.
+    // 클래스의 읽기 트랜잭션을 열지 않으므로 컨트롤러에서 부르면 조회마다 DB 커넥션을 반납합니다.
+    // 그래서 action 이 느린 클라이언트에 쓰느라 막혀도 커넥션을 잡고 있지 않습니다.
+    // 묶음 사이에 바뀐 댓글은 반영될 수 있지만, id 순으로 이어 읽으므로 같은 댓글을 두 번 넘기지는 않습니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void forEachComment(long todoId, Consumer<CommentResponse> action) {
+        Pageable batch = PageRequest.of(0, STREAM_BATCH_SIZE);
+        long afterId = 0;
+        while (true) {
+            List<CommentResponse> comments = commentRepository.findNextByTodoId(todoId, afterId, batch);
+            comments.forEach(action);
+            if (comments.size() < STREAM_BATCH_SIZE) {
+                return;
+            }
+            afterId = comments.get(comments.size() - 1).getId();
         }
-        return dtoList;
     }
 }
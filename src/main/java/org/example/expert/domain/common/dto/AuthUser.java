@@ -1,18 +1,39 @@
 package org.example.expert.domain.common.dto;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.example.expert.domain.user.enums.UserRole;
 
+import java.util.function.LongFunction;
+
 @Getter
 public class AuthUser {
 
     private final Long id;
-    private final String email;
     private final UserRole userRole;
+    // 이메일이 없는 토큰이면 처음 필요할 때 조회합니다.
+    @Getter(AccessLevel.NONE)
+    private final LongFunction<String> emailLoader;
+    @Getter(AccessLevel.NONE)
+    private String email;
 
     public AuthUser(Long id, String email, UserRole userRole) {
         this.id = id;
         this.email = email;
         this.userRole = userRole;
+        this.emailLoader = null;
+    }
+
+    public AuthUser(Long id, UserRole userRole, LongFunction<String> emailLoader) {
+        this.id = id;
+        this.userRole = userRole;
+        this.emailLoader = emailLoader;
+    }
+
+    public String getEmail() {
+        if (email == null && emailLoader != null) {
+            email = emailLoader.apply(id);
+        }
+        return email;
     }
 }
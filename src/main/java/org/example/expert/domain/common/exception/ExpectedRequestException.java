@@ -0,0 +1,12 @@
+package org.example.expert.domain.common.exception;
+
+/**
+ * 잘못된 입력이나 권한처럼 정상적인 요청 흐름에서 발생하는 오류입니다.
+ * 응답 본문으로만 쓰이고 로그에 스택이 남지 않으므로, 예외마다 스택 트레이스를 채우는 비용을 들이지 않습니다.
+ */
+public abstract class ExpectedRequestException extends RuntimeException {
+
+    protected ExpectedRequestException(String message) {
+        super(message, null, false, false);
+    }
+}
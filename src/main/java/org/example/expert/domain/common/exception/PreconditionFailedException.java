@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class PreconditionFailedException extends ExpectedRequestException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class TooManyRequestsException extends ExpectedRequestException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.domain.event.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.service.ChangeEventRelay;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+public class ChangeEventAdminController {
+
+    private final ChangeEventRelay changeEventRelay;
+
+    // 재연결 시 EventSource 가 보내는 Last-Event-ID 를 after 보다 우선합니다.
+    @GetMapping(value = "/admin/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long after
+    ) {
+        Long offset = lastEventId != null ? lastEventId : after;
+        if (offset != null && offset < 0) {
+            throw new InvalidRequestException("잘못된 이벤트 오프셋입니다.");
+        }
+        return changeEventRelay.subscribe(offset);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.event.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Getter;
+import org.example.expert.domain.event.entity.ChangeEvent;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ChangeEventResponse {
+
+    private final Long id;
+    private final EventAggregate aggregateType;
+    private final Long aggregateId;
+    private final Long todoId;
+    private final ChangeType changeType;
+    // 저장할 때 이미 JSON 으로 만들었으므로 다시 직렬화하지 않고 그대로 씁니다.
+    @JsonRawValue
+    private final String payload;
+    private final LocalDateTime createdAt;
+
+    public ChangeEventResponse(Long id, EventAggregate aggregateType, Long aggregateId, Long todoId,
+                               ChangeType changeType, String payload, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.todoId = todoId;
+        this.changeType = changeType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static ChangeEventResponse from(ChangeEvent event) {
+        return new ChangeEventResponse(
+                event.getId(),
+                event.getAggregateType(),
+                event.getAggregateId(),
+                event.getTodoId(),
+                event.getChangeType(),
+                event.getPayload(),
+                event.getCreatedAt()
+        );
+    }
+}
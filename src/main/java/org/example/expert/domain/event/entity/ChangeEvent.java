@@ -0,0 +1,58 @@
+package org.example.expert.domain.event.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경을 일으킨 트랜잭션 안에서 함께 저장되는 이벤트(트랜잭셔널 아웃박스)입니다.
+ * id 가 구독자의 오프셋이 되며, 커밋된 변경만 이벤트로 남습니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "change_events", indexes = {
+        @Index(name = "idx_change_events_created_at", columnList = "created_at")
+})
+public class ChangeEvent {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private EventAggregate aggregateType;
+
+    // 여러 건을 한 번에 지운 이벤트는 null 이고, 대상 id 는 payload 에 담깁니다.
+    private Long aggregateId;
+
+    private Long todoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ChangeType changeType;
+
+    @Lob
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ChangeEvent(EventAggregate aggregateType, Long aggregateId, Long todoId, ChangeType changeType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.todoId = todoId;
+        this.changeType = changeType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // 같은 내용으로 새 id 를 받을 이벤트를 만듭니다. 늦게 커밋된 이벤트를 끝으로 옮길 때 사용합니다.
+    public ChangeEvent copy() {
+        return new ChangeEvent(aggregateType, aggregateId, todoId, changeType, payload);
+    }
+}
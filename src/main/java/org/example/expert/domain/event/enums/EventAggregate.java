@@ -0,0 +1,5 @@
+package org.example.expert.domain.event.enums;
+
+public enum EventAggregate {
+    TODO, COMMENT, MANAGER
+}
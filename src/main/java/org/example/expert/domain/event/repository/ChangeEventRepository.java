@@ -0,0 +1,34 @@
+package org.example.expert.domain.event.repository;
+
+import org.example.expert.domain.event.entity.ChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    @Query("SELECT e FROM ChangeEvent e WHERE e.id > :after ORDER BY e.id")
+    List<ChangeEvent> findAfter(@Param("after") long after, Pageable pageable);
+
+    @Query("SELECT e FROM ChangeEvent e WHERE e.id > :after AND e.id <= :upTo ORDER BY e.id")
+    List<ChangeEvent> findBetween(@Param("after") long after, @Param("upTo") long upTo, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ChangeEvent e")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ChangeEvent e WHERE e.id = :id")
+    int deleteByIdIfPresent(@Param("id") long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChangeEvent e WHERE e.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,52 @@
+package org.example.expert.domain.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.event.entity.ChangeEvent;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.repository.ChangeEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 변경 이벤트를 호출한 쪽 트랜잭션 안에서 change_events 에 저장합니다.
+ * 변경과 이벤트가 함께 커밋되거나 함께 롤백되므로 구독자는 커밋된 변경만 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeEventPublisher {
+
+    private final ChangeEventRepository changeEventRepository;
+    private final ChangeEventRelay changeEventRelay;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(EventAggregate aggregateType, Long aggregateId, Long todoId, ChangeType changeType, Object payload) {
+        changeEventRepository.save(new ChangeEvent(aggregateType, aggregateId, todoId, changeType, toJson(payload)));
+
+        // 이 인스턴스에서 커밋된 이벤트는 폴링 주기를 기다리지 않고 바로 전달합니다.
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changeEventRelay.wakeUp();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new ServerException("변경 이벤트를 직렬화할 수 없습니다.");
+        }
+    }
+}
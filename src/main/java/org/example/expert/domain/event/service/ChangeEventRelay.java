@@ -0,0 +1,313 @@
+package org.example.expert.domain.event.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.event.dto.response.ChangeEventResponse;
+import org.example.expert.domain.event.entity.ChangeEvent;
+import org.example.expert.domain.event.repository.ChangeEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * change_events 를 id 순으로 읽어 SSE 구독자에게 전달합니다.
+ * 테이블은 이 컴포넌트 하나만 폴링하고, 최근 이벤트는 메모리에 두어 구독자가 늘어도 조회가 늘지 않습니다.
+ * 버퍼보다 오래된 오프셋에서 이어받는 구독자만 테이블에서 직접 읽습니다.
+ *
+ * id 는 커밋 순서가 아니라 INSERT 순서로 매겨지므로, 앞 번호가 아직 커밋되지 않았으면
+ * gap-timeout-ms 동안 그 뒤 이벤트를 보내지 않고 기다립니다. 그동안 채워지지 않은 번호는 건너뛰되,
+ * skipped-recheck-ms 동안은 계속 확인해서 뒤늦게 커밋된 이벤트를 새 id 로 옮겨 끝에서 다시 보냅니다.
+ * 옮기기 전에 테이블에서 직접 읽은 구독자는 같은 이벤트를 두 번 받을 수 있습니다.
+ */
+@Slf4j(topic = "ChangeEventRelay")
+@Component
+public class ChangeEventRelay {
+
+    private static final int MAX_SKIPPED = 1000;
+
+    private final ChangeEventRepository changeEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int bufferSize;
+    private final long gapTimeoutNanos;
+    private final long skippedRecheckNanos;
+    private final long emitterTimeoutMillis;
+    private final long retentionDays;
+
+    // 최근 이벤트를 id 순으로 보관합니다. watermark 와 함께 buffer 잠금으로 보호합니다.
+    private final ArrayDeque<ChangeEventResponse> buffer = new ArrayDeque<>();
+    // 이 id 까지는 빠진 번호 없이 확정되어 구독자에게 보낼 수 있습니다.
+    private volatile long watermark;
+    // watermark 바로 다음 번호가 비어 있는 것을 처음 본 시각이며, 비어 있지 않으면 0 입니다.
+    private long gapSince;
+    // 건너뛴 번호와 건너뛴 시각입니다. poll() 안에서만 다룹니다.
+    private final Map<Long, Long> skipped = new LinkedHashMap<>();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "change-event-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ChangeEventRelay(
+            ChangeEventRepository changeEventRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${events.batch-size:500}") int batchSize,
+            @Value("${events.buffer-size:10000}") int bufferSize,
+            @Value("${events.gap-timeout-ms:5000}") long gapTimeoutMillis,
+            @Value("${events.skipped-recheck-ms:60000}") long skippedRecheckMillis,
+            @Value("${events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${events.retention-days:7}") long retentionDays
+    ) {
+        this.changeEventRepository = changeEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.bufferSize = bufferSize;
+        this.gapTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(gapTimeoutMillis);
+        this.skippedRecheckNanos = TimeUnit.MILLISECONDS.toNanos(skippedRecheckMillis);
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    // 오프셋 없이 구독하면 시작 이후의 이벤트부터 받습니다.
+    @PostConstruct
+    public void init() {
+        watermark = changeEventRepository.findMaxId();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        executor.shutdownNow();
+    }
+
+    /**
+     * lastEventId 다음 이벤트부터 보내는 구독을 엽니다. null 이면 지금 이후의 이벤트만 받습니다.
+     * 연결이 끊기면 마지막으로 받은 id 를 Last-Event-ID 로 보내 이어받을 수 있습니다.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, lastEventId == null ? watermark : lastEventId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        dispatch(subscriber);
+        return emitter;
+    }
+
+    // 커밋 직후 호출됩니다. 이미 예약된 폴링이 있으면 합칩니다.
+    public void wakeUp() {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            execute(() -> {
+                wakeUpPending.set(false);
+                poll();
+            });
+        }
+    }
+
+    // 다른 인스턴스에서 커밋된 이벤트와 번호가 비어 기다리던 이벤트는 주기적인 폴링으로 가져옵니다.
+    @Scheduled(fixedDelayString = "${events.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        try {
+            recheckSkipped();
+            List<ChangeEvent> events = changeEventRepository.findAfter(watermark, PageRequest.of(0, batchSize));
+            long last = watermark;
+            List<ChangeEventResponse> ready = new ArrayList<>();
+            for (ChangeEvent event : events) {
+                if (event.getId() != last + 1) {
+                    if (!gapExpired()) {
+                        break;
+                    }
+                    skip(last + 1, event.getId() - 1);
+                }
+                gapSince = 0;
+                ready.add(ChangeEventResponse.from(event));
+                last = event.getId();
+            }
+            if (ready.isEmpty()) {
+                return;
+            }
+
+            synchronized (buffer) {
+                for (ChangeEventResponse event : ready) {
+                    buffer.addLast(event);
+                    if (buffer.size() > bufferSize) {
+                        buffer.removeFirst();
+                    }
+                }
+                watermark = last;
+            }
+            subscribers.forEach(this::dispatch);
+            if (ready.size() == batchSize) {
+                wakeUp();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll change events after {}", watermark, e);
+        }
+    }
+
+    // 연결이 끊긴 구독자를 찾아내고, 중간 프록시가 유휴 연결을 닫지 않도록 주석 한 줄을 보냅니다.
+    @Scheduled(fixedDelayString = "${events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> execute(subscriber::ping));
+    }
+
+    @Scheduled(cron = "${events.cleanup-cron:0 30 4 * * *}")
+    public void deleteExpired() {
+        // 보관 기간보다 오래된 오프셋으로 이어받으면 그 사이 이벤트는 받지 못합니다.
+        int deleted = changeEventRepository.deleteCreatedBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Deleted {} change events older than {} days", deleted, retentionDays);
+    }
+
+    long getWatermark() {
+        return watermark;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // offset 다음의 확정된 이벤트를 batch-size 개까지 돌려줍니다.
+    List<ChangeEventResponse> eventsAfter(long offset) {
+        long upTo;
+        synchronized (buffer) {
+            upTo = watermark;
+            if (offset >= upTo) {
+                return List.of();
+            }
+            if (!buffer.isEmpty() && offset >= buffer.peekFirst().getId() - 1) {
+                // 대부분의 구독자는 끝부분을 따라가고 있으므로 뒤에서부터 찾습니다.
+                List<ChangeEventResponse> events = new ArrayList<>();
+                Iterator<ChangeEventResponse> iterator = buffer.descendingIterator();
+                while (iterator.hasNext()) {
+                    ChangeEventResponse event = iterator.next();
+                    if (event.getId() <= offset) {
+                        break;
+                    }
+                    events.add(event);
+                }
+                Collections.reverse(events);
+                return events.size() > batchSize ? events.subList(0, batchSize) : events;
+            }
+        }
+        return changeEventRepository.findBetween(offset, upTo, PageRequest.of(0, batchSize)).stream()
+                .map(ChangeEventResponse::from)
+                .toList();
+    }
+
+    private void skip(long from, long to) {
+        log.warn("Skipped change events {}..{} that were not committed within the gap timeout", from, to);
+        long now = System.nanoTime();
+        for (long id = from; id <= to && skipped.size() < MAX_SKIPPED; id++) {
+            skipped.put(id, now);
+        }
+    }
+
+    // 건너뛴 번호가 뒤늦게 커밋되었으면 원래 행을 지우고 새 id 로 다시 저장해 다음 폴링에서 보내게 합니다.
+    // 여러 인스턴스가 같은 이벤트를 발견해도 DELETE 에 성공한 한 곳만 다시 저장합니다.
+    private void recheckSkipped() {
+        if (skipped.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        skipped.values().removeIf(skippedAt -> now - skippedAt > skippedRecheckNanos);
+        for (ChangeEvent late : changeEventRepository.findAllById(skipped.keySet())) {
+            skipped.remove(late.getId());
+            Long movedTo = transactionTemplate.execute(status -> changeEventRepository.deleteByIdIfPresent(late.getId()) == 1
+                    ? changeEventRepository.save(late.copy()).getId()
+                    : null);
+            if (movedTo != null) {
+                log.warn("Change event {} was committed after it had been skipped; re-published as {}", late.getId(), movedTo);
+            }
+        }
+    }
+
+    private boolean gapExpired() {
+        long now = System.nanoTime();
+        if (gapSince == 0) {
+            gapSince = now;
+        }
+        return now - gapSince >= gapTimeoutNanos;
+    }
+
+    // 구독자마다 한 번에 하나의 전송 작업만 돌게 해서 느린 구독자가 다른 구독자를 막지 않도록 합니다.
+    private void dispatch(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            execute(subscriber::drain);
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 더 보내지 않습니다.
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long offset;
+
+        private Subscriber(SseEmitter emitter, long offset) {
+            this.emitter = emitter;
+            this.offset = offset;
+        }
+
+        private void drain() {
+            try {
+                List<ChangeEventResponse> events;
+                while (!(events = eventsAfter(offset)).isEmpty()) {
+                    for (ChangeEventResponse event : events) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(event.getId()))
+                                .data(event, MediaType.APPLICATION_JSON));
+                        offset = event.getId();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 마지막 조회와 draining 해제 사이에 들어온 이벤트를 놓치지 않도록 한 번 더 확인합니다.
+            if (offset < watermark && subscribers.contains(this)) {
+                dispatch(this);
+            }
+        }
+
+        private void ping() {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            subscribers.remove(this);
+            emitter.complete();
+        }
+    }
+}
@@ -1,25 +1,29 @@
 package org.example.expert.domain.manager.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.JsonArrayWriter;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
-import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.service.ManagerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
 public class ManagerController {
 
     private final ManagerService managerService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -31,8 +35,14 @@ public class ManagerController {
     }
 
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
-        return ResponseEntity.ok(managerService.getManagers(todoId));
+    public void getMembers(@PathVariable long todoId, WebRequest webRequest, HttpServletResponse response) throws IOException {
+        String eTag = managerService.getManagersETag(todoId);
+        if (webRequest.checkNotModified(eTag)) {
+            return;
+        }
+        JsonArrayWriter writer = JsonArrayWriter.start(objectMapper, response);
+        managerService.forEachManager(todoId, writer::write);
+        writer.finish();
     }
 
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
@@ -13,4 +13,9 @@ public class ManagerResponse {
         this.id = id;
         this.user = user;
     }
+
+    // ManagerRepository.findNextByTodoId 의 생성자 표현식에서 사용합니다.
+    public ManagerResponse(Long id, Long userId, String userEmail) {
+        this(id, new UserResponse(userId, userEmail));
+    }
 }
@@ -9,7 +9,10 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+// 내 일정 목록은 user_id 로 담당 일정을 찾으므로 todo_id 까지 인덱스에서 읽을 수 있게 합니다.
+@Table(name = "managers", indexes = {
+        @Index(name = "idx_managers_user_id_todo_id", columnList = "user_id, todo_id")
+})
 public class Manager {
 
     @Id
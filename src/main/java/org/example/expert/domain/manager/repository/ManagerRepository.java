@@ -1,13 +1,27 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // CommentRepository.findNextByTodoId 와 같은 키셋 쿼리입니다.
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId AND m.id > :afterId ORDER BY m.id")
+    List<ManagerResponse> findNextByTodoId(@Param("todoId") Long todoId, @Param("afterId") long afterId, Pageable pageable);
+
+    @Query("SELECT m.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -1,8 +1,12 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ETags;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -13,21 +17,27 @@ import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ManagerService {
 
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
@@ -49,28 +59,36 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.addManagerCount(todo.getId(), 1);
 
-        return new ManagerSaveResponse(
+        ManagerSaveResponse response = new ManagerSaveResponse(
                 savedManagerUser.getId(),
                 new UserResponse(managerUser.getId(), managerUser.getEmail())
         );
+        changeEventPublisher.publish(EventAggregate.MANAGER, savedManagerUser.getId(), todo.getId(), ChangeType.CREATED, response);
+        return response;
     }
 
-    public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
+    public String getManagersETag(long todoId) {
+        return todoRepository.findVersionsById(todoId)
+                .map(versions -> ETags.weak(versions.getManagersVersion()))
                 .orElseThrow(() -> new InvalidRequestException("Manager not found"));
+    }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
+    // 담당자를 한 건씩 action 에 넘깁니다. 일정 존재 여부는 getManagersETag 에서 확인합니다.
+    // forEachComment 와 마찬가지로 STREAM_BATCH_SIZE 개씩 읽고, 조회마다 DB 커넥션을 반납합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void forEachManager(long todoId, Consumer<ManagerResponse> action) {
+        Pageable batch = PageRequest.of(0, STREAM_BATCH_SIZE);
+        long afterId = 0;
+        while (true) {
+            List<ManagerResponse> managers = managerRepository.findNextByTodoId(todoId, afterId, batch);
+            managers.forEach(action);
+            if (managers.size() < STREAM_BATCH_SIZE) {
+                return;
+            }
+            afterId = managers.get(managers.size() - 1).getId();
         }
-        return dtoList;
     }
 
     @Transactional
@@ -93,5 +111,7 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        todoRepository.addManagerCount(todo.getId(), -1);
+        changeEventPublisher.publish(EventAggregate.MANAGER, managerId, todo.getId(), ChangeType.DELETED, null);
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.domain.monitoring.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.LoginRateLimiter;
+import org.example.expert.domain.monitoring.dto.response.LoginRateLimitResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class LoginRateLimitAdminController {
+
+    private final LoginRateLimiter loginRateLimiter;
+
+    // 애플리케이션이 시작된 뒤 누적된 로그인 거절 수와 현재 추적 중인 키 수입니다.
+    @GetMapping("/admin/login-rate-limit")
+    public ResponseEntity<LoginRateLimitResponse> getLoginRateLimit() {
+        return ResponseEntity.ok(new LoginRateLimitResponse(
+                loginRateLimiter.getRejectedByEmail(),
+                loginRateLimiter.getRejectedByIp(),
+                loginRateLimiter.getTrackedKeys()
+        ));
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.monitoring.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.monitoring.dto.response.SlowQueryResponse;
+import org.example.expert.domain.monitoring.service.SlowQueryRecorder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SlowQueryAdminController {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @GetMapping("/admin/slow-queries")
+    public ResponseEntity<List<SlowQueryResponse>> getSlowQueries(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(slowQueryRecorder.getSlowestQueries(size));
+    }
+}
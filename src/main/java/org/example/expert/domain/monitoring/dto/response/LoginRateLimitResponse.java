@@ -0,0 +1,17 @@
+package org.example.expert.domain.monitoring.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitResponse {
+
+    private final long rejectedByEmail;
+    private final long rejectedByIp;
+    private final int trackedKeys;
+
+    public LoginRateLimitResponse(long rejectedByEmail, long rejectedByIp, int trackedKeys) {
+        this.rejectedByEmail = rejectedByEmail;
+        this.rejectedByIp = rejectedByIp;
+        this.trackedKeys = trackedKeys;
+    }
+}
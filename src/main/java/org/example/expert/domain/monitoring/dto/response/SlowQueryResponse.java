@@ -0,0 +1,29 @@
+package org.example.expert.domain.monitoring.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SlowQueryResponse {
+
+    private final String sql;
+    private final long count;
+    private final double averageMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final List<SlowQuerySampleResponse> samples;
+
+    public SlowQueryResponse(String sql, long count, double averageMillis, double p50Millis, double p95Millis, double p99Millis, double maxMillis, List<SlowQuerySampleResponse> samples) {
+        this.sql = sql;
+        this.count = count;
+        this.averageMillis = averageMillis;
+        this.p50Millis = p50Millis;
+        this.p95Millis = p95Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.samples = samples;
+    }
+}
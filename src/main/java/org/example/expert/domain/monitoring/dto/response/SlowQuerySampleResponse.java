@@ -0,0 +1,22 @@
+package org.example.expert.domain.monitoring.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class SlowQuerySampleResponse {
+
+    private final double elapsedMillis;
+    private final List<String> parameters;
+    private final LocalDateTime capturedAt;
+    private final String plan;
+
+    public SlowQuerySampleResponse(double elapsedMillis, List<String> parameters, LocalDateTime capturedAt, String plan) {
+        this.elapsedMillis = elapsedMillis;
+        this.parameters = parameters;
+        this.capturedAt = capturedAt;
+        this.plan = plan;
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.expert.domain.monitoring.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.monitoring.dto.response.SlowQueryResponse;
+import org.example.expert.domain.monitoring.dto.response.SlowQuerySampleResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 별 실행 시간 분포를 기록하고, 기준치를 넘은 실행은 바인딩된 파라미터와 실행 계획(EXPLAIN)을 함께 보관합니다.
+ * 기준치 이하의 실행은 카운터와 히스토그램 갱신만 하므로 추가 비용이 거의 없습니다.
+ * 실행 계획은 별도 스레드에서 SQL 별로 explain-interval 에 한 번만 조회합니다.
+ *
+ * 파라미터에는 이메일, 비밀번호 해시, 토큰 id 가 들어 있을 수 있으므로 기본으로는 값을 가리고 개수만 보관합니다.
+ * capture-parameters 를 켜면 값을 그대로 보관해 관리자 API 로 보여 주며, 어느 경우에도 로그에는 남기지 않습니다.
+ * IN 목록은 길이와 관계없이 같은 SQL 로 묶고, max-queries 를 넘은 뒤 처음 보는 SQL 은 OTHER_QUERIES 한 줄에 합산합니다.
+ */
+@Slf4j(topic = "SlowQueryRecorder")
+@Service
+public class SlowQueryRecorder {
+
+    private static final String EXPLAIN_PREFIX = "EXPLAIN ";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final int MAX_SIZE = 100;
+    static final String MASKED_PARAMETER = "****";
+    static final String OTHER_QUERIES = "(other queries)";
+
+    private final DataSource dataSource;
+    private final long thresholdNanos;
+    private final int maxQueries;
+    private final int samplesPerQuery;
+    private final boolean captureParameters;
+    private final boolean explainEnabled;
+    private final long explainIntervalNanos;
+
+    private final Map<String, QueryStats> queryStats = new ConcurrentHashMap<>();
+    private final AtomicBoolean capReached = new AtomicBoolean();
+    private final ExecutorService explainExecutor;
+
+    public SlowQueryRecorder(
+            DataSource dataSource,
+            @Value("${slow-query.threshold-ms:100}") long thresholdMillis,
+            @Value("${slow-query.max-queries:500}") int maxQueries,
+            @Value("${slow-query.samples-per-query:5}") int samplesPerQuery,
+            @Value("${slow-query.capture-parameters:false}") boolean captureParameters,
+            @Value("${slow-query.explain:true}") boolean explainEnabled,
+            @Value("${slow-query.explain-interval-seconds:60}") long explainIntervalSeconds
+    ) {
+        this.dataSource = dataSource;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.maxQueries = maxQueries;
+        this.samplesPerQuery = samplesPerQuery;
+        this.captureParameters = captureParameters;
+        this.explainEnabled = explainEnabled;
+        this.explainIntervalNanos = TimeUnit.SECONDS.toNanos(explainIntervalSeconds);
+        // 실행 계획 조회가 밀리면 새 요청은 버립니다.
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100), runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    // 실행 시간을 기록하고, 기준치를 넘었으면 true 를 반환합니다. 이때 호출자는 sample() 로 파라미터를 넘깁니다.
+    public boolean record(String sql, long elapsedNanos) {
+        if (sql.startsWith(EXPLAIN_PREFIX)) {
+            return false;
+        }
+        statsFor(normalize(sql)).record(elapsedNanos);
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    public void sample(String sql, long elapsedNanos, List<Object> parameters) {
+        String key = normalize(sql);
+        log.warn("Slow query {} ms: {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), key);
+        QueryStats stats = queryStats.get(key);
+        if (stats == null) {
+            return;
+        }
+
+        List<String> displayParameters = new ArrayList<>(parameters.size());
+        for (Object parameter : parameters) {
+            if (!captureParameters) {
+                displayParameters.add(MASKED_PARAMETER);
+                continue;
+            }
+            String value = String.valueOf(parameter);
+            displayParameters.add(value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value);
+        }
+        Sample sample = new Sample(elapsedNanos, displayParameters, LocalDateTime.now());
+        stats.addSample(sample, samplesPerQuery);
+
+        if (explainEnabled && isSelect(sql) && stats.tryAcquireExplain(System.nanoTime(), explainIntervalNanos)) {
+            explainExecutor.execute(() -> sample.plan = explain(sql, parameters));
+        }
+    }
+
+    // 최대 실행 시간이 긴 순서로 반환합니다.
+    public List<SlowQueryResponse> getSlowestQueries(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        return queryStats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryStats> entry) -> entry.getValue().maxNanos.get()).reversed())
+                .limit(size)
+                .map(entry -> entry.getValue().toResponse(entry.getKey()))
+                .toList();
+    }
+
+    private QueryStats statsFor(String key) {
+        QueryStats stats = queryStats.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (queryStats.size() < maxQueries) {
+            return queryStats.computeIfAbsent(key, k -> new QueryStats());
+        }
+        if (capReached.compareAndSet(false, true)) {
+            log.warn("Tracked {} distinct queries; further queries are aggregated as {}", maxQueries, OTHER_QUERIES);
+        }
+        return queryStats.computeIfAbsent(OTHER_QUERIES, k -> new QueryStats());
+    }
+
+    // "in (?,?,?)" 처럼 두 개 이상 이어진 자리표시자를 "?, ..." 하나로 줄입니다. 목록이 없으면 같은 문자열을 그대로 돌려줍니다.
+    static String normalize(String sql) {
+        int listStart = sql.indexOf('?');
+        if (listStart < 0 || sql.indexOf(',', listStart) < 0) {
+            return sql;
+        }
+        StringBuilder normalized = null;
+        int copied = 0;
+        for (int i = listStart; i < sql.length(); i++) {
+            if (sql.charAt(i) != '?') {
+                continue;
+            }
+            int end = i + 1;
+            int placeholders = 1;
+            for (int j = skipSpaces(sql, end); j < sql.length() && sql.charAt(j) == ','; ) {
+                int next = skipSpaces(sql, j + 1);
+                if (next >= sql.length() || sql.charAt(next) != '?') {
+                    break;
+                }
+                placeholders++;
+                end = next + 1;
+                j = skipSpaces(sql, end);
+            }
+            if (placeholders > 1) {
+                if (normalized == null) {
+                    normalized = new StringBuilder(sql.length());
+                }
+                normalized.append(sql, copied, i).append("?, ...");
+                copied = end;
+            }
+            i = end - 1;
+        }
+        return normalized == null ? sql : normalized.append(sql, copied, sql.length()).toString();
+    }
+
+    private static int skipSpaces(String sql, int index) {
+        while (index < sql.length() && sql.charAt(index) == ' ') {
+            index++;
+        }
+        return index;
+    }
+
+    private String explain(String sql, List<Object> parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(EXPLAIN_PREFIX + sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                int columns = resultSet.getMetaData().getColumnCount();
+                while (resultSet.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        if (i > 1) {
+                            plan.append(" | ");
+                        }
+                        plan.append(resultSet.getString(i));
+                    }
+                    plan.append('\n');
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            log.warn("Failed to explain slow query: {}", e.getMessage());
+            return "EXPLAIN 실패: " + e.getMessage();
+        }
+    }
+
+    private static boolean isSelect(String sql) {
+        return sql.regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class QueryStats {
+        // i 번째 칸은 [2^(i-1), 2^i) 마이크로초 구간입니다.
+        private static final int BUCKETS = 32;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final AtomicLong lastExplainAt = new AtomicLong(Long.MIN_VALUE);
+        private final Deque<Sample> samples = new ArrayDeque<>();
+
+        void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            long micros = elapsedNanos / 1_000;
+            histogram.incrementAndGet(Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1));
+        }
+
+        synchronized void addSample(Sample sample, int limit) {
+            if (samples.size() >= limit) {
+                samples.removeFirst();
+            }
+            samples.addLast(sample);
+        }
+
+        boolean tryAcquireExplain(long now, long intervalNanos) {
+            long last = lastExplainAt.get();
+            return (last == Long.MIN_VALUE || now - last >= intervalNanos) && lastExplainAt.compareAndSet(last, now);
+        }
+
+        SlowQueryResponse toResponse(String sql) {
+            long total = count.sum();
+            long max = maxNanos.get();
+            List<SlowQuerySampleResponse> sampleResponses;
+            synchronized (this) {
+                sampleResponses = samples.stream()
+                        .map(sample -> new SlowQuerySampleResponse(toMillis(sample.elapsedNanos), sample.parameters, sample.capturedAt, sample.plan))
+                        .toList();
+            }
+            return new SlowQueryResponse(
+                    sql,
+                    total,
+                    total == 0 ? 0 : toMillis(totalNanos.sum() / total),
+                    percentile(total, 0.50, max),
+                    percentile(total, 0.95, max),
+                    percentile(total, 0.99, max),
+                    toMillis(max),
+                    sampleResponses
+            );
+        }
+
+        // 해당 구간의 상한으로 근사하되, 최대 실행 시간을 넘지 않게 합니다.
+        private double percentile(long total, double percentile, long max) {
+            long target = (long) Math.ceil(total * percentile);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += histogram.get(i);
+                if (cumulative >= target) {
+                    return toMillis(Math.min((1L << i) * 1_000, max));
+                }
+            }
+            return toMillis(max);
+        }
+    }
+
+    private static class Sample {
+        private final long elapsedNanos;
+        private final List<String> parameters;
+        private final LocalDateTime capturedAt;
+        private volatile String plan;
+
+        Sample(long elapsedNanos, List<String> parameters, LocalDateTime capturedAt) {
+            this.elapsedNanos = elapsedNanos;
+            this.parameters = parameters;
+            this.capturedAt = capturedAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.expert.domain.search.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.search.dto.response.TodoSearchResponse;
+import org.example.expert.domain.search.service.TodoSearchIndex;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoSearchController {
+
+    private final TodoSearchIndex todoSearchIndex;
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoSearchResponse>> searchTodos(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoSearchIndex.search(query, size));
+    }
+}
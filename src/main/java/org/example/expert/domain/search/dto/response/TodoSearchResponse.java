@@ -0,0 +1,19 @@
+package org.example.expert.domain.search.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final float score;
+
+    public TodoSearchResponse(Long id, String title, String contents, float score) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.score = score;
+    }
+}
@@ -0,0 +1,271 @@
+package org.example.expert.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.search.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일정 제목/내용과 댓글 내용에 대한 Lucene 역색인입니다. 색인은 search.index-dir 에 저장됩니다.
+ * 일정과 댓글은 각각 별도 문서로 색인하고, 검색 시 일정 단위로 묶어 가장 높은 점수를 사용합니다.
+ * 변경 사항은 트랜잭션 커밋 이후에 반영되며, 검색 결과에는 약 1초 안에 보입니다.
+ * 색인이 비어 있거나 search.rebuild-on-start 가 true 면 시작 시 DB 에서 다시 만듭니다.
+ */
+@Slf4j(topic = "TodoSearchIndex")
+@Component
+public class TodoSearchIndex {
+
+    private static final String KEY = "key";
+    private static final String TODO_ID = "todoId";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String COMMENT = "comment";
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2f, CONTENTS, 1f, COMMENT, 0.5f);
+    private static final int MAX_SIZE = 100;
+    // 한 일정에 여러 댓글이 걸릴 수 있으므로, 요청한 개수보다 넉넉하게 가져와 일정 단위로 묶습니다.
+    private static final int GROUP_FACTOR = 5;
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean rebuildOnStart;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    public TodoSearchIndex(
+            JdbcTemplate jdbcTemplate,
+            @Value("${search.index-dir:data/todo-index}") String indexDir,
+            @Value("${search.rebuild-on-start:false}") boolean rebuildOnStart
+    ) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildOnStart = rebuildOnStart;
+        this.directory = FSDirectory.open(Path.of(indexDir));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    // 데이터가 많으면 오래 걸리므로 별도 스레드에서 다시 만듭니다. 그동안의 검색 결과는 불완전할 수 있습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        if (!rebuildOnStart && indexWriter.getDocStats().numDocs > 0) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "todo-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            indexWriter.deleteAll();
+            long todos = stream("SELECT id, title, contents FROM todos WHERE deleted_at IS NULL", rs ->
+                    addDocument(todoDocument(rs.getLong(1), rs.getString(2), rs.getString(3))));
+            long comments = stream("SELECT c.id, c.todo_id, c.contents FROM comments c JOIN todos t ON t.id = c.todo_id WHERE t.deleted_at IS NULL", rs ->
+                    addDocument(commentDocument(rs.getLong(1), rs.getLong(2), rs.getString(3))));
+            indexWriter.commit();
+            searcherManager.maybeRefresh();
+            log.info("Rebuilt todo search index with {} todos and {} comments in {} ms", todos, comments, System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to rebuild todo search index", e);
+        }
+    }
+
+    public void indexTodo(Todo todo) {
+        Document document = todoDocument(todo.getId(), todo.getTitle(), todo.getContents());
+        afterCommit(() -> indexWriter.updateDocument(new Term(KEY, todoKey(todo.getId())), document));
+    }
+
+    // 일정에 달린 댓글 문서도 함께 지웁니다.
+    public void deleteTodo(long todoId) {
+        afterCommit(() -> indexWriter.deleteDocuments(new Term(TODO_ID, String.valueOf(todoId))));
+    }
+
+    public void indexComment(Comment comment) {
+        Document document = commentDocument(comment.getId(), comment.getTodo().getId(), comment.getContents());
+        afterCommit(() -> indexWriter.updateDocument(new Term(KEY, commentKey(comment.getId())), document));
+    }
+
+    public void deleteComment(long commentId) {
+        afterCommit(() -> indexWriter.deleteDocuments(new Term(KEY, commentKey(commentId))));
+    }
+
+    public void deleteComments(List<Long> commentIds) {
+        Term[] terms = commentIds.stream()
+                .map(commentId -> new Term(KEY, commentKey(commentId)))
+                .toArray(Term[]::new);
+        afterCommit(() -> indexWriter.deleteDocuments(terms));
+    }
+
+    public List<TodoSearchResponse> search(String query, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        // 모든 검색어가 어느 필드에든 포함된 일정만 찾습니다.
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query parsed = parser.parse(query);
+        if (parsed == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                Map<String, Float> scores = new LinkedHashMap<>();
+                for (ScoreDoc scoreDoc : searcher.search(parsed, size * GROUP_FACTOR).scoreDocs) {
+                    scores.putIfAbsent(storedFields.document(scoreDoc.doc, Set.of(TODO_ID)).get(TODO_ID), scoreDoc.score);
+                    if (scores.size() == size) {
+                        break;
+                    }
+                }
+
+                List<TodoSearchResponse> results = new ArrayList<>(scores.size());
+                for (Map.Entry<String, Float> entry : scores.entrySet()) {
+                    TopDocs todo = searcher.search(new TermQuery(new Term(KEY, todoKey(Long.parseLong(entry.getKey())))), 1);
+                    if (todo.scoreDocs.length == 0) {
+                        continue;
+                    }
+                    Document document = storedFields.document(todo.scoreDocs[0].doc);
+                    results.add(new TodoSearchResponse(Long.valueOf(entry.getKey()), document.get(TITLE), document.get(CONTENTS), entry.getValue()));
+                }
+                return results;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new ServerException("검색에 실패했습니다.");
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refresh() throws IOException {
+        if (changed.getAndSet(false)) {
+            searcherManager.maybeRefresh();
+        }
+    }
+
+    // 반영된 변경은 refresh 로 바로 검색되지만, 재시작 후에도 남도록 주기적으로 디스크에 커밋합니다.
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void commit() throws IOException {
+        if (indexWriter.hasUncommittedChanges()) {
+            indexWriter.commit();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private long stream(String sql, RowCallbackHandler handler) {
+        long[] count = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> {
+            handler.processRow(rs);
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private void addDocument(Document document) {
+        try {
+            indexWriter.addDocument(document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 색인은 DB 에서 다시 만들 수 있으므로, 반영에 실패해도 요청은 실패시키지 않습니다.
+    private void afterCommit(IndexOperation operation) {
+        Runnable apply = () -> {
+            try {
+                operation.apply();
+                changed.set(true);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to update todo search index", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private static Document todoDocument(long todoId, String title, String contents) {
+        Document document = new Document();
+        document.add(new StringField(KEY, todoKey(todoId), Field.Store.NO));
+        document.add(new StringField(TODO_ID, String.valueOf(todoId), Field.Store.YES));
+        document.add(new TextField(TITLE, Objects.toString(title, ""), Field.Store.YES));
+        document.add(new TextField(CONTENTS, Objects.toString(contents, ""), Field.Store.YES));
+        return document;
+    }
+
+    private static Document commentDocument(long commentId, long todoId, String contents) {
+        Document document = new Document();
+        document.add(new StringField(KEY, commentKey(commentId), Field.Store.NO));
+        document.add(new StringField(TODO_ID, String.valueOf(todoId), Field.Store.YES));
+        document.add(new TextField(COMMENT, Objects.toString(contents, ""), Field.Store.NO));
+        return document;
+    }
+
+    private static String todoKey(long todoId) {
+        return "todo:" + todoId;
+    }
+
+    private static String commentKey(long commentId) {
+        return "comment:" + commentId;
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void apply() throws IOException;
+    }
+}
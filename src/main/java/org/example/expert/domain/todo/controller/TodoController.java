@@ -2,15 +2,21 @@ package org.example.expert.domain.todo.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.ETags;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,8 +40,58 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size));
     }
 
+    // 필터와 커서를 받는 키셋 목록입니다. 기존 /todos 의 페이지 번호 방식은 호환을 위해 그대로 둡니다.
+    @GetMapping("/todos/scroll")
+    public ResponseEntity<TodoScrollResponse> scrollTodos(
+            @ModelAttribute TodoSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.scrollTodos(condition, cursor, size));
+    }
+
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<TodoScrollResponse> scrollMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.scrollMyTodos(authUser.getId(), cursor, size));
+    }
+
+    // If-None-Match 가 현재 ETag 와 같으면 일정 본문과 작성자를 조회하지 않고 304 로 응답합니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        String eTag = todoService.getTodoETag(todoId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        TodoResponse todo = todoService.getTodo(todoId);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(todo.getVersion(), todo.getCommentCount(), todo.getManagerCount()))
+                .body(todo);
+    }
+
+    // If-Match 를 보내면 해당 버전일 때만 수정하고, 응답 ETag 로 새 버전을 돌려줍니다.
+    @PatchMapping("/todos/{todoId}")
+    public ResponseEntity<TodoResponse> updateTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody TodoUpdateRequest todoUpdateRequest
+    ) {
+        TodoResponse todo = todoService.updateTodo(authUser, todoId, ETags.parseIfMatch(ifMatch), todoUpdateRequest);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(todo.getVersion(), todo.getCommentCount(), todo.getManagerCount()))
+                .body(todo);
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public void deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        todoService.deleteTodo(authUser, todoId, ETags.parseIfMatch(ifMatch));
     }
 }
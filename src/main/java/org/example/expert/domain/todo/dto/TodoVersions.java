@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+/**
+ * ETag 계산에 쓰는 일정의 버전과 카운터입니다. TodoRepository.findVersionsById 의 생성자 표현식으로 만들어집니다.
+ */
+@Getter
+public class TodoVersions {
+
+    private final long version;
+    private final int commentCount;
+    private final int managerCount;
+    private final long commentsVersion;
+    private final long managersVersion;
+
+    public TodoVersions(long version, int commentCount, int managerCount, long commentsVersion, long managersVersion) {
+        this.version = version;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
+        this.commentsVersion = commentsVersion;
+        this.managersVersion = managersVersion;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// 모든 조건은 선택이며, 수정일 범위는 [modifiedFrom, modifiedTo) 입니다.
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoSearchCondition {
+
+    private String weather;
+    private Long userId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime modifiedTo;
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보내지 않은 값은 바꾸지 않지만, 보낸 값은 비어 있으면 안 됩니다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoUpdateRequest {
+
+    @Pattern(regexp = "(?s).*\\S.*")
+    private String title;
+    @Pattern(regexp = "(?s).*\\S.*")
+    private String contents;
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoScrollResponse {
+
+    private final List<TodoResponse> todos;
+    // 다음 페이지가 없으면 null 입니다.
+    private final String nextCursor;
+
+    public TodoScrollResponse(List<TodoResponse> todos, String nextCursor) {
+        this.todos = todos;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -7,14 +7,24 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+// 목록 필터는 모두 (modified_at, id) 키셋 정렬을 쓰므로 각 필터 컬럼 뒤에 정렬 컬럼을 붙입니다.
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"),
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at, id"),
+        @Index(name = "idx_todos_user_id_modified_at_id", columnList = "user_id, modified_at, id"),
+        @Index(name = "idx_todos_deleted_at", columnList = "deleted_at")
+})
+// 삭제는 deletedAt 만 기록하고, 댓글과 담당자는 TodoPurger 가 나중에 나눠서 지웁니다.
+@SQLRestriction("deleted_at IS NULL")
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,11 +33,29 @@ public class Todo extends Timestamped {
     private String contents;
     private String weather;
 
+    // 목록에서 연관 컬렉션을 읽지 않도록 둔 비정규화 카운터입니다.
+    // 증감은 리포지토리의 원자적 UPDATE 로만 하므로, 엔티티 변경 감지로 덮어쓰지 않게 updatable = false 로 둡니다.
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
+    @Column(nullable = false, updatable = false)
+    private int managerCount;
+    // 댓글/담당자가 추가되거나 삭제될 때마다 카운터와 함께 올라가며, 목록 ETag 로 사용합니다.
+    @Column(nullable = false, updatable = false)
+    private long commentsVersion;
+    @Column(nullable = false, updatable = false)
+    private long managersVersion;
+
+    private LocalDateTime deletedAt;
+
+    // 동시 수정 감지와 ETag 에 사용합니다. 카운터 증감처럼 JPQL 로 직접 바꾸는 값은 버전을 올리지 않습니다.
+    @Version
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
@@ -39,10 +67,20 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = 1;
     }
 
     public void update(String title, String contents) {
         this.title = title;
         this.contents = contents;
     }
+
+    // null 인 값은 바꾸지 않습니다.
+    public void patch(String title, String contents) {
+        update(title == null ? this.title : title, contents == null ? this.contents : contents);
+    }
+
+    public void delete() {
+        this.deletedAt = LocalDateTime.now();
+    }
 }
@@ -1,15 +1,20 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.TodoVersions;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo> {
 
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
@@ -20,4 +25,43 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :delta, t.commentsVersion = t.commentsVersion + 1 WHERE t.id = :todoId")
+    int addCommentCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + :delta, t.managersVersion = t.managersVersion + 1 WHERE t.id = :todoId")
+    int addManagerCount(@Param("todoId") Long todoId, @Param("delta") int delta);
+
+    // ETag 계산에 필요한 값만 기본 키로 조회합니다. 목록 조회마다 불리므로 프록시를 만드는 인터페이스 프로젝션 대신 생성자 표현식을 씁니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoVersions(t.version, t.commentCount, t.managerCount, " +
+            "t.commentsVersion, t.managersVersion) FROM Todo t WHERE t.id = :todoId")
+    Optional<TodoVersions> findVersionsById(@Param("todoId") Long todoId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Todo t")
+    long findMaxId();
+
+    // 삭제된 일정은 엔티티 조회에서 제외되므로 정리 작업은 네이티브 쿼리로 찾고 지웁니다.
+    @Query(value = "SELECT id FROM todos WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIds(@Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM todos WHERE id = :todoId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeDeleted(@Param("todoId") long todoId);
+
+    // 카운터가 실제 개수와 다른 일정만 고치고, 고친 행 수를 반환합니다.
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE todos t SET " +
+            "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id), " +
+            "manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id), " +
+            "comments_version = comments_version + 1, " +
+            "managers_version = managers_version + 1 " +
+            "WHERE t.id BETWEEN :fromId AND :toId " +
+            "AND (t.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.todo_id = t.id) " +
+            "OR t.manager_count <> (SELECT COUNT(*) FROM managers m WHERE m.todo_id = t.id))",
+            nativeQuery = true)
+    int reconcileCounters(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,56 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록 필터 조건입니다. 값이 null 이면 조건을 적용하지 않습니다.
+ */
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {
+    }
+
+    // 목록 응답에 작성자가 필요하므로 같은 쿼리에서 함께 가져옵니다. 개수 쿼리에는 fetch join 을 걸 수 없어 제외합니다.
+    public static Specification<Todo> fetchUser() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("user", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Todo> weatherEquals(String weather) {
+        return weather == null ? null : (root, query, cb) -> cb.equal(root.get("weather"), weather);
+    }
+
+    public static Specification<Todo> userIdEquals(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    // managers(user_id, todo_id) 인덱스로 담당 일정 id 를 찾는 세미 조인입니다.
+    public static Specification<Todo> managedBy(Long userId) {
+        return userId == null ? null : (root, query, cb) -> {
+            Subquery<Long> managed = query.subquery(Long.class);
+            Root<Manager> manager = managed.from(Manager.class);
+            managed.select(manager.get("todo").get("id"))
+                    .where(cb.equal(manager.get("user").get("id"), userId));
+            return root.get("id").in(managed);
+        };
+    }
+
+    public static Specification<Todo> modifiedAtFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("modifiedAt"), from);
+    }
+
+    public static Specification<Todo> modifiedAtBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("modifiedAt"), to);
+    }
+}
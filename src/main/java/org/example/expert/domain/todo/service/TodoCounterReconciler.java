@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정의 댓글/담당자 카운터를 실제 행 수와 맞춥니다.
+ * 카운터는 댓글/담당자 변경과 같은 트랜잭션에서 증감하므로 평소에는 어긋나지 않지만,
+ * 배치 insert 나 직접 실행한 SQL 처럼 서비스를 거치지 않은 변경을 바로잡기 위해 주기적으로 실행합니다.
+ * id 범위 단위로 나눠 각각 별도 트랜잭션으로 실행해 한 번에 많은 행을 잠그지 않습니다.
+ */
+@Slf4j(topic = "TodoCounterReconciler")
+@Component
+public class TodoCounterReconciler {
+
+    private final TodoRepository todoRepository;
+    private final int chunkSize;
+
+    public TodoCounterReconciler(
+            TodoRepository todoRepository,
+            @Value("${todo.counter.reconcile-chunk-size:1000}") int chunkSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 0 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    // 고친 일정 수를 반환합니다.
+    public long reconcile() {
+        long maxId = todoRepository.findMaxId();
+        long fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            fixed += todoRepository.reconcileCounters(fromId, fromId + chunkSize - 1);
+        }
+        if (fixed > 0) {
+            log.info("Reconciled counters of {} todos", fixed);
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * (modifiedAt, id) 키셋 위치를 URL 에 넣을 수 있는 문자열로 바꿉니다.
+ */
+final class TodoCursor {
+
+    private static final String MODIFIED_AT = "modifiedAt";
+    private static final String ID = "id";
+    private static final char SEPARATOR = '|';
+
+    private TodoCursor() {
+    }
+
+    static KeysetScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            LocalDateTime modifiedAt = LocalDateTime.parse(decoded.substring(0, separator));
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            return ScrollPosition.forward(Map.of(MODIFIED_AT, modifiedAt, ID, id));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    static String encode(LocalDateTime modifiedAt, long id) {
+        String value = modifiedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.SchedulingConfig;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 소프트 삭제된 일정의 댓글과 담당자를 chunk-size 개씩 나눠 DELETE 한 뒤 일정 행을 지웁니다.
+ * chunk 마다 별도 트랜잭션으로 실행하고 그 사이에 pause-ms 만큼 쉬어서,
+ * 댓글이 수만 개인 일정도 잠금을 오래 잡거나 다른 요청의 쓰기를 밀어내지 않도록 합니다.
+ */
+@Slf4j(topic = "TodoPurger")
+@Component
+public class TodoPurger {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final int todosPerRun;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public TodoPurger(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            @Value("${todo.purge.todos-per-run:100}") int todosPerRun,
+            @Value("${todo.purge.chunk-size:500}") int chunkSize,
+            @Value("${todo.purge.pause-ms:50}") long pauseMillis
+    ) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.todosPerRun = todosPerRun;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 한 일정을 지우다 실패해도 나머지 일정은 계속 정리합니다. 실패한 일정은 다음 실행에서 다시 시도합니다.
+    // pause-ms 동안 쉬는 시간까지 스레드를 잡고 있으므로 다른 @Scheduled 작업과 스레드를 나눠 쓰지 않습니다.
+    @Scheduled(fixedDelayString = "${todo.purge.interval-ms:10000}", scheduler = SchedulingConfig.TODO_PURGE_SCHEDULER)
+    public void purge() {
+        for (Long todoId : todoRepository.findDeletedIds(todosPerRun)) {
+            try {
+                purgeTodo(todoId);
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                log.warn("Failed to purge todo {}", todoId, e);
+            }
+        }
+    }
+
+    public void purgeTodo(long todoId) {
+        long comments = deleteInChunks(pageable -> commentRepository.findIdsByTodoId(todoId, pageable), commentRepository::deleteByIds);
+        long managers = deleteInChunks(pageable -> managerRepository.findIdsByTodoId(todoId, pageable), managerRepository::deleteByIds);
+        todoRepository.purgeDeleted(todoId);
+        log.info("Purged todo {} with {} comments and {} managers", todoId, comments, managers);
+    }
+
+    private long deleteInChunks(Function<Pageable, List<Long>> findIds, ToIntFunction<List<Long>> deleteByIds) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deleted = 0;
+        while (true) {
+            List<Long> ids = findIds.apply(chunk);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += deleteByIds.applyAsInt(ids);
+            pause();
+        }
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일정 정리 중 인터럽트되었습니다.", e);
+        }
+    }
+}
@@ -2,28 +2,58 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.config.ETags;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.search.service.TodoSearchIndex;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoSpecifications;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ObjectUtils;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final Sort SCROLL_SORT = Sort.by(Sort.Direction.DESC, "modifiedAt", "id");
+    private static final Comparator<Todo> SCROLL_ORDER = Comparator.comparing(Todo::getModifiedAt)
+            .thenComparing(Todo::getId)
+            .reversed();
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoSearchIndex todoSearchIndex;
+    private final ChangeEventPublisher changeEventPublisher;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
@@ -38,46 +68,173 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndex.indexTodo(savedTodo);
 
-        return new TodoSaveResponse(
+        TodoSaveResponse response = new TodoSaveResponse(
                 savedTodo.getId(),
                 savedTodo.getTitle(),
                 savedTodo.getContents(),
                 weather,
                 new UserResponse(user.getId(), user.getEmail())
         );
+        changeEventPublisher.publish(EventAggregate.TODO, savedTodo.getId(), savedTodo.getId(), ChangeType.CREATED, response);
+        // 작성자는 일정과 함께 담당자로 저장되므로 담당자 추가 이벤트도 남깁니다.
+        Manager owner = savedTodo.getManagers().get(0);
+        changeEventPublisher.publish(EventAggregate.MANAGER, owner.getId(), savedTodo.getId(), ChangeType.CREATED,
+                new ManagerSaveResponse(owner.getId(), response.getUser()));
+        return response;
     }
 
+    // 페이지 번호 방식은 전체 개수와 함께 한 페이지를 메모리에 만들어 응답합니다. 기존 클라이언트와의 호환을 위해
+    // size 상한은 두지 않습니다. 큰 목록은 size 상한이 있는 키셋 방식의 /todos/scroll 로 나눠 읽습니다.
     public Page<TodoResponse> getTodos(int page, int size) {
+        if (page < 1 || size < 1) {
+            throw new InvalidRequestException("page 와 size 는 1 이상이어야 합니다.");
+        }
         Pageable pageable = PageRequest.of(page - 1, size);
 
         Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todos.map(this::toTodoResponse);
+    }
+
+    // 수정일 내림차순 키셋 페이지네이션입니다. 필터가 몇 개든 같은 (modified_at, id) 정렬을 쓰므로 인덱스를 탈 수 있습니다.
+    public TodoScrollResponse scrollTodos(TodoSearchCondition condition, String cursor, int size) {
+        validateScrollSize(size);
+
+        KeysetScrollPosition position = TodoCursor.decode(cursor);
+        Specification<Todo> spec = Specification.allOf(
+                TodoSpecifications.fetchUser(),
+                TodoSpecifications.weatherEquals(condition.getWeather()),
+                TodoSpecifications.userIdEquals(condition.getUserId()),
+                TodoSpecifications.modifiedAtFrom(condition.getModifiedFrom()),
+                TodoSpecifications.modifiedAtBefore(condition.getModifiedTo())
+        );
+        Window<Todo> window = scroll(spec, position, size);
+
+        return toScrollResponse(window.getContent(), window.hasNext());
+    }
+
+    // 직접 만든 일정과 담당자로 지정된 일정을 각각 인덱스를 타는 키셋 쿼리로 size 개씩 가져와 병합합니다.
+    // 두 결과가 같은 정렬이므로 합친 뒤 앞에서 size 개를 자르면 합집합의 다음 페이지와 같습니다.
+    public TodoScrollResponse scrollMyTodos(long userId, String cursor, int size) {
+        validateScrollSize(size);
+
+        KeysetScrollPosition position = TodoCursor.decode(cursor);
+        Window<Todo> created = scroll(Specification.allOf(
+                TodoSpecifications.fetchUser(),
+                TodoSpecifications.userIdEquals(userId)
+        ), position, size);
+        Window<Todo> managed = scroll(Specification.allOf(
+                TodoSpecifications.fetchUser(),
+                TodoSpecifications.managedBy(userId)
+        ), position, size);
+
+        // 생성자는 기본으로 담당자이기도 하므로 id 로 중복을 제거합니다.
+        Map<Long, Todo> merged = new LinkedHashMap<>();
+        created.forEach(todo -> merged.put(todo.getId(), todo));
+        managed.forEach(todo -> merged.putIfAbsent(todo.getId(), todo));
+
+        List<Todo> todos = merged.values().stream()
+                .sorted(SCROLL_ORDER)
+                .toList();
+        boolean hasNext = created.hasNext() || managed.hasNext() || todos.size() > size;
+
+        return toScrollResponse(todos.subList(0, Math.min(size, todos.size())), hasNext);
+    }
+
+    // expectedVersion 은 If-Match 로 받은 버전이며, null 이면 확인하지 않습니다.
+    // 조회 이후의 동시 수정은 flush 시점에 @Version 으로 감지됩니다.
+    @Transactional
+    public TodoResponse updateTodo(AuthUser authUser, long todoId, Long expectedVersion, TodoUpdateRequest todoUpdateRequest) {
+        Todo todo = findOwnedTodo(authUser, todoId, expectedVersion, "일정을 만든 유저만 수정할 수 있습니다.");
+
+        todo.patch(todoUpdateRequest.getTitle(), todoUpdateRequest.getContents());
+        // 응답의 수정일과 버전이 실제 저장된 값이 되도록 먼저 반영합니다.
+        todoRepository.flush();
+        todoSearchIndex.indexTodo(todo);
+
+        TodoResponse response = toTodoResponse(todo);
+        changeEventPublisher.publish(EventAggregate.TODO, todoId, todoId, ChangeType.UPDATED, response);
+        return response;
+    }
+
+    // 소프트 삭제만 하므로 댓글 수와 관계없이 일정 한 행만 수정합니다.
+    @Transactional
+    public void deleteTodo(AuthUser authUser, long todoId, Long expectedVersion) {
+        Todo todo = findOwnedTodo(authUser, todoId, expectedVersion, "일정을 만든 유저만 삭제할 수 있습니다.");
+
+        todo.delete();
+        todoRepository.flush();
+        todoSearchIndex.deleteTodo(todoId);
+        changeEventPublisher.publish(EventAggregate.TODO, todoId, todoId, ChangeType.DELETED, null);
+    }
+
+    // 본문은 버전과 두 카운터로 결정되므로, 이 값들만 읽어 ETag 를 만듭니다. 일정이 없으면 null 입니다.
+    public String getTodoETag(long todoId) {
+        return todoRepository.findVersionsById(todoId)
+                .map(versions -> ETags.of(versions.getVersion(), versions.getCommentCount(), versions.getManagerCount()))
+                .orElse(null);
     }
 
     public TodoResponse getTodo(long todoId) {
         Todo todo = todoRepository.findByIdWithUser(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        User user = todo.getUser();
+        return toTodoResponse(todo);
+    }
+
+    private Todo findOwnedTodo(AuthUser authUser, long todoId, Long expectedVersion, String notOwnerMessage) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
+        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(authUser.getId(), todo.getUser().getId())) {
+            throw new InvalidRequestException(notOwnerMessage);
+        }
+        if (expectedVersion != null && expectedVersion != todo.getVersion()) {
+            throw new PreconditionFailedException("일정이 이미 수정되었습니다. 다시 조회한 뒤 시도해주세요.");
+        }
+        return todo;
+    }
+
+    private TodoResponse toTodoResponse(Todo todo) {
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContents(),
                 todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getCommentCount(),
+                todo.getManagerCount(),
+                todo.getVersion()
         );
     }
+
+    private Window<Todo> scroll(Specification<Todo> spec, KeysetScrollPosition position, int size) {
+        return todoRepository.findBy(spec, query -> query
+                .sortBy(SCROLL_SORT)
+                .limit(size)
+                .scroll(position));
+    }
+
+    private TodoScrollResponse toScrollResponse(List<Todo> todos, boolean hasNext) {
+        List<TodoResponse> responses = todos.stream()
+                .map(this::toTodoResponse)
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext && !responses.isEmpty()) {
+            TodoResponse last = responses.get(responses.size() - 1);
+            nextCursor = TodoCursor.encode(last.getModifiedAt(), last.getId());
+        }
+        return new TodoScrollResponse(responses, nextCursor);
+    }
+
+    private void validateScrollSize(int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다.");
+        }
+    }
 }
@@ -10,16 +10,21 @@ import org.example.expert.domain.user.enums.UserRole;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 public class User extends Timestamped {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true)
     private String email;
     private String password;
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
+    // 권한이 바뀔 때마다 UserRepository.updateRole 로 증가하며, 토큰에 담겨 이전 권한으로 발급된 토큰을 가려내는 데 쓰입니다.
+    private int roleVersion;
 
     public User(String email, String password, UserRole userRole) {
         this.email = email;
@@ -40,8 +45,4 @@ public class User extends Timestamped {
     public void changePassword(String password) {
         this.password = password;
     }
-
-    public void updateRole(UserRole userRole) {
-        this.userRole = userRole;
-    }
 }
@@ -2,15 +2,43 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
-
 public enum UserRole {
-    ADMIN, USER;
+    ADMIN(0), USER(1);
+
+    // values() 는 호출마다 배열을 복제하므로 한 번만 만들어 둡니다.
+    private static final UserRole[] VALUES = values();
+    private static final UserRole[] BY_CODE = new UserRole[VALUES.length];
+
+    static {
+        for (UserRole role : VALUES) {
+            BY_CODE[role.code] = role;
+        }
+    }
+
+    // 토큰에 역할 이름 대신 담기는 짧은 코드입니다.
+    private final int code;
+
+    UserRole(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        for (UserRole r : VALUES) {
+            if (r.name().equalsIgnoreCase(role)) {
+                return r;
+            }
+        }
+        throw new InvalidRequestException("유효하지 않은 UerRole");
+    }
+
+    public static UserRole fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return BY_CODE[code];
     }
 }
@@ -1,11 +1,36 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    List<User> findByRoleVersionGreaterThan(int roleVersion);
+
+    // 동시에 권한을 바꿔도 버전이 겹치지 않도록 DB 에서 원자적으로 올립니다. 이미 같은 권한이면 0 을 반환합니다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.userRole = :userRole, u.roleVersion = u.roleVersion + 1, u.modifiedAt = :now " +
+            "WHERE u.id = :userId AND u.userRole <> :userRole")
+    int updateRole(@Param("userId") long userId, @Param("userRole") UserRole userRole, @Param("now") LocalDateTime now);
+
+    @Query("SELECT u.roleVersion FROM User u WHERE u.id = :userId")
+    int findRoleVersionById(@Param("userId") long userId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
 }
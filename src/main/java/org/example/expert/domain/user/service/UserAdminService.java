@@ -1,23 +1,36 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.UserRoleVersionTable;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class UserAdminService {
 
     private final UserRepository userRepository;
+    private final UserRoleVersionTable userRoleVersionTable;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
-        user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        UserRole userRole = UserRole.of(userRoleChangeRequest.getRole());
+        if (userRepository.updateRole(userId, userRole, LocalDateTime.now()) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new InvalidRequestException("User not found");
+            }
+            // 이미 같은 권한이면 버전을 올리지 않으므로 기존 토큰도 그대로 쓸 수 있습니다.
+            return;
+        }
+
+        // 갱신한 행은 커밋까지 잠겨 있으므로 여기서 읽은 버전이 이 변경의 버전입니다.
+        // 이전 권한 버전이 담긴 토큰은 JwtFilter 에서 거부되어, 리프레시 시 변경된 권한이 담긴 토큰을 받게 됩니다.
+        userRoleVersionTable.update(userId, userRepository.findRoleVersionById(userId));
     }
 }
@@ -2,6 +2,7 @@ package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -17,16 +18,33 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationList tokenRevocationList;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    // 정규식 없이 한 번의 순회로 숫자와 대문자 포함 여부를 검사합니다.
     boolean validPassword(String password) {
-        return password.length() < 8 ||
-                !password.matches(".*\\d.*") ||
-                !password.matches(".*[A-Z].*");
+        if (password.length() < 8) {
+            return true;
+        }
+
+        boolean hasDigit = false;
+        boolean hasUpperCase = false;
+        for (int i = 0; i < password.length(); i++) {
+            char c = password.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                hasUpperCase = true;
+            }
+            if (hasDigit && hasUpperCase) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Transactional
@@ -38,14 +56,17 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
-        }
-
         if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
+        // 기존 비밀번호가 검증되었으므로 새 비밀번호와의 비교는 bcrypt 연산 없이 문자열 비교로 충분합니다.
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        }
+
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        // 이전 비밀번호로 로그인한 다른 기기의 토큰을 모두 폐기합니다. 이 요청을 보낸 클라이언트도 다시 로그인해야 합니다.
+        tokenRevocationList.revokeTokens(userId);
     }
 }
@@ -107,22 +107,27 @@ public class AuthUserArgumentResolverTest {
         @DisplayName("제대로 작동한다.")
         void test1() {
             // given
-            Long userId = 1L;
-            String email = "a@a.com";
-            String userRole = UserRole.USER.name();
+            AuthUser expected = new AuthUser(1L, "a@a.com", UserRole.USER);
 
             given(webRequest.getNativeRequest()).willReturn(request);
-            given(request.getAttribute("userId")).willReturn(userId);
-            given(request.getAttribute("email")).willReturn(email);
-            given(request.getAttribute("userRole")).willReturn(userRole);
+            given(request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE)).willReturn(expected);
 
             // when
             AuthUser authUser = (AuthUser) authUserArgumentResolver.resolveArgument(null, null, webRequest, null);
 
-            assertNotNull(authUser);
-            assertEquals(authUser.getId(), userId);
-            assertEquals(authUser.getEmail(), email);
-            assertEquals(authUser.getUserRole().name(), userRole);
+            assertSame(expected, authUser);
+        }
+
+        @Test
+        @DisplayName("인증 정보가 없으면 예외가 발생한다.")
+        void test2() {
+            // given
+            given(webRequest.getNativeRequest()).willReturn(request);
+            given(request.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE)).willReturn(null);
+
+            // when & then
+            AuthException authException = assertThrows(AuthException.class, () -> authUserArgumentResolver.resolveArgument(null, null, webRequest, null));
+            assertEquals(authException.getMessage(), "인증 정보가 없습니다.");
         }
     }
 }
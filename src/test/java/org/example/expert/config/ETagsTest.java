@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ETagsTest {
+
+    @Nested
+    @DisplayName("ETags::parseIfMatch()")
+    class Class1 {
+        @Test
+        @DisplayName("헤더가 없거나 * 이면 버전을 확인하지 않는다.")
+        void test1() {
+            assertNull(ETags.parseIfMatch(null));
+            assertNull(ETags.parseIfMatch("*"));
+        }
+
+        @Test
+        @DisplayName("발급한 ETag 에서 버전을 읽는다.")
+        void test2() {
+            assertEquals(7L, ETags.parseIfMatch(ETags.of(7)));
+            assertEquals(7L, ETags.parseIfMatch(ETags.of(7, 3, 2)));
+        }
+
+        @Test
+        @DisplayName("약한 ETag 나 읽을 수 없는 값은 어떤 버전과도 일치하지 않는다.")
+        void test3() {
+            assertEquals(-1L, ETags.parseIfMatch(ETags.weak(7)));
+            assertEquals(-1L, ETags.parseIfMatch("\"abc\""));
+            assertEquals(-1L, ETags.parseIfMatch("7"));
+        }
+    }
+}
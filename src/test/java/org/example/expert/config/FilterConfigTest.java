@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.user.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,12 +11,22 @@ import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
 public class FilterConfigTest {
     @Mock
     JwtUtil jwtUtil;
 
+    @Mock
+    TokenRevocationList tokenRevocationList;
+
+    @Mock
+    UserRoleVersionTable userRoleVersionTable;
+
+    @Mock
+    UserService userService;
+
     @InjectMocks
     FilterConfig filterConfig;
 
@@ -33,4 +44,19 @@ public class FilterConfigTest {
             assertNotNull(registrationBean.getFilter());
         }
     }
+
+    @Nested
+    @DisplayName("FilterConfig::queryCountFilter()")
+    class Class2 {
+        @Test
+        @DisplayName("JwtFilter 보다 먼저 실행되도록 등록된다.")
+        void test1() {
+            // when
+            FilterRegistrationBean<QueryCountFilter> registrationBean = filterConfig.queryCountFilter();
+
+            // then
+            assertNotNull(registrationBean.getFilter());
+            assertTrue(registrationBean.getOrder() < filterConfig.jwtFilter().getOrder());
+        }
+    }
 }
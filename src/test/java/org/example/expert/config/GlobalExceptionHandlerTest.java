@@ -0,0 +1,89 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GlobalExceptionHandlerTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(objectMapper);
+
+    @Nested
+    @DisplayName("GlobalExceptionHandler::getErrorResponse()")
+    class Class1 {
+        @Test
+        @DisplayName("상태 코드와 메시지가 담긴 JSON 응답을 만든다.")
+        void test1() throws Exception {
+            // when
+            ResponseEntity<byte[]> response = globalExceptionHandler.invalidRequestExceptionException(new InvalidRequestException("Todo not found"));
+
+            // then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+            JsonNode body = objectMapper.readTree(response.getBody());
+            assertEquals("BAD_REQUEST", body.get("status").asText());
+            assertEquals(400, body.get("code").asInt());
+            assertEquals("Todo not found", body.get("message").asText());
+        }
+
+        @Test
+        @DisplayName("같은 상태 코드와 메시지의 응답은 재사용된다.")
+        void test2() {
+            // when
+            ResponseEntity<byte[]> first = globalExceptionHandler.getErrorResponse(HttpStatus.UNAUTHORIZED, "message");
+            ResponseEntity<byte[]> second = globalExceptionHandler.getErrorResponse(HttpStatus.UNAUTHORIZED, "message");
+            ResponseEntity<byte[]> other = globalExceptionHandler.getErrorResponse(HttpStatus.BAD_REQUEST, "message");
+
+            // then
+            assertSame(first, second);
+            assertNotSame(first, other);
+        }
+
+        @Test
+        @DisplayName("캐시가 가득 차도 응답은 정상적으로 만들어진다.")
+        void test3() {
+            // given
+            for (int i = 0; i < GlobalExceptionHandler.MAX_CACHED_RESPONSES; i++) {
+                globalExceptionHandler.getErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "message " + i);
+            }
+
+            // when
+            ResponseEntity<byte[]> response = globalExceptionHandler.getErrorResponse(HttpStatus.BAD_REQUEST, "overflow");
+
+            // then
+            assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+            assertNotSame(response, globalExceptionHandler.getErrorResponse(HttpStatus.BAD_REQUEST, "overflow"));
+        }
+    }
+
+    @Test
+    @DisplayName("요청 오류 예외는 스택 트레이스를 만들지 않는다.")
+    void test1() {
+        assertEquals(0, new InvalidRequestException("message").getStackTrace().length);
+    }
+
+    @Nested
+    @DisplayName("GlobalExceptionHandler::handleOptimisticLockingFailureException()")
+    class Class2 {
+        @Test
+        @DisplayName("동시 수정 충돌은 409 로 응답한다.")
+        void test1() {
+            // when
+            ResponseEntity<byte[]> response = globalExceptionHandler.handleOptimisticLockingFailureException(
+                    new ObjectOptimisticLockingFailureException("Todo", 1L));
+
+            // then
+            assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.expert.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsonArrayWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("JsonArrayWriter")
+    class Class1 {
+        @Test
+        @DisplayName("원소를 차례로 JSON 배열로 쓴다.")
+        void test1() throws Exception {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            JsonArrayWriter writer = JsonArrayWriter.start(objectMapper, response);
+            writer.write(Map.of("id", 1));
+            writer.write(Map.of("id", 2));
+            writer.finish();
+
+            // then
+            assertEquals("application/json", response.getContentType());
+            assertEquals("[{\"id\":1},{\"id\":2}]", response.getContentAsString());
+        }
+
+        @Test
+        @DisplayName("원소가 없으면 빈 배열을 쓴다.")
+        void test2() throws Exception {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            JsonArrayWriter.start(objectMapper, response).finish();
+
+            // then
+            assertEquals("[]", response.getContentAsString());
+        }
+    }
+}
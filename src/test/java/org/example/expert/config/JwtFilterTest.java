@@ -8,6 +8,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.FilterConfig;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -22,9 +24,13 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Base64;
+import java.util.function.LongFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -51,6 +57,15 @@ public class JwtFilterTest {
     @Spy
     JwtUtil jwtUtil;
 
+    @Mock
+    TokenRevocationList tokenRevocationList;
+
+    @Mock
+    UserRoleVersionTable userRoleVersionTable;
+
+    @Mock
+    LongFunction<String> emailLoader;
+
     @BeforeEach
     void prepare() {
         ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString("this is test secret key this is test secret key this is test secret key this is test secret key".getBytes()));
@@ -123,9 +138,8 @@ public class JwtFilterTest {
             given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
             doReturn(claims).when(jwtUtil).extractClaims(any());
             given(claims.getSubject()).willReturn("1");
-            given(claims.get("email")).willReturn("a@a.com");
-            given(claims.get("userRole")).willReturn(UserRole.USER.name());
-            given(claims.get("userRole", String.class)).willReturn(UserRole.USER.name());
+            given(claims.get("email", String.class)).willReturn("a@a.com");
+            given(claims.get("userRole")).willReturn(UserRole.USER.getCode());
             doReturn(claims).when(jwtUtil).extractClaims(any());
 
             // when & then
@@ -141,13 +155,88 @@ public class JwtFilterTest {
             given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
             doReturn(claims).when(jwtUtil).extractClaims(any());
             given(claims.getSubject()).willReturn("1");
-            given(claims.get("email")).willReturn("a@a.com");
-            given(claims.get("userRole")).willReturn(UserRole.USER.name());
-            given(claims.get("userRole", String.class)).willReturn(UserRole.USER.name());
+            given(claims.get("email", String.class)).willReturn("a@a.com");
+            given(claims.get("userRole")).willReturn(UserRole.USER.getCode());
+            doReturn(claims).when(jwtUtil).extractClaims(any());
+
+            // when & then
+            assertDoesNotThrow(() -> jwtFilter.doFilter(httpRequest, httpResponse, chain));
+            verify(httpRequest, times(1)).setAttribute(eq(JwtFilter.AUTH_USER_ATTRIBUTE), argThat(authUser -> {
+                AuthUser user = (AuthUser) authUser;
+                return user.getId() == 1L && "a@a.com".equals(user.getEmail()) && user.getUserRole() == UserRole.USER;
+            }));
+        }
+
+        @Test
+        @DisplayName("이메일이 없는 토큰이면 이메일을 필요할 때 한 번만 조회한다.")
+        void test6_1() {
+            // given
+            given(httpRequest.getRequestURI()).willReturn("");
+            given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
+            given(claims.getSubject()).willReturn("1");
+            given(claims.get("r")).willReturn(UserRole.USER.getCode());
+            given(emailLoader.apply(1L)).willReturn("a@a.com");
+            doReturn(claims).when(jwtUtil).extractClaims(any());
+            ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+
+            // when
+            assertDoesNotThrow(() -> jwtFilter.doFilter(httpRequest, httpResponse, chain));
+
+            // then
+            verify(httpRequest).setAttribute(eq(JwtFilter.AUTH_USER_ATTRIBUTE), captor.capture());
+            AuthUser authUser = (AuthUser) captor.getValue();
+            verify(emailLoader, times(0)).apply(anyLong());
+            assertEquals("a@a.com", authUser.getEmail());
+            assertEquals("a@a.com", authUser.getEmail());
+            verify(emailLoader, times(1)).apply(1L);
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰으로 접근하면 오류 발생.")
+        void test6_2() {
+            // given
+            given(httpRequest.getRequestURI()).willReturn("");
+            given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
+            given(claims.get("tokenType")).willReturn("refresh");
+            doReturn(claims).when(jwtUtil).extractClaims(any());
+
+            // when & then
+            assertDoesNotThrow(() -> jwtFilter.doFilter(httpRequest, httpResponse, chain));
+            assertDoesNotThrow(() -> verify(httpResponse, times(1)).sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다."));
+            assertDoesNotThrow(() -> verify(chain, times(0)).doFilter(httpRequest, httpResponse));
+        }
+
+        @Test
+        @DisplayName("폐기된 토큰으로 접근하면 오류 발생.")
+        void test6_3() {
+            // given
+            given(httpRequest.getRequestURI()).willReturn("");
+            given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
+            given(claims.getSubject()).willReturn("1");
+            given(tokenRevocationList.isRevoked(eq(1L), any())).willReturn(true);
+            doReturn(claims).when(jwtUtil).extractClaims(any());
+
+            // when & then
+            assertDoesNotThrow(() -> jwtFilter.doFilter(httpRequest, httpResponse, chain));
+            assertDoesNotThrow(() -> verify(httpResponse, times(1)).sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다."));
+            assertDoesNotThrow(() -> verify(chain, times(0)).doFilter(httpRequest, httpResponse));
+        }
+
+        @Test
+        @DisplayName("권한 변경 이전 버전의 토큰으로 접근하면 오류 발생.")
+        void test6_4() {
+            // given
+            given(httpRequest.getRequestURI()).willReturn("");
+            given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
+            given(claims.getSubject()).willReturn("1");
+            given(userRoleVersionTable.isStale(1L, 1)).willReturn(true);
             doReturn(claims).when(jwtUtil).extractClaims(any());
+            doReturn(1).when(jwtUtil).extractRoleVersion(claims);
 
             // when & then
             assertDoesNotThrow(() -> jwtFilter.doFilter(httpRequest, httpResponse, chain));
+            assertDoesNotThrow(() -> verify(httpResponse, times(1)).sendError(HttpServletResponse.SC_UNAUTHORIZED, "권한이 변경되었습니다. 토큰을 다시 발급받아주세요."));
+            assertDoesNotThrow(() -> verify(chain, times(0)).doFilter(httpRequest, httpResponse));
         }
 
         @Test
@@ -158,9 +247,8 @@ public class JwtFilterTest {
             given(httpRequest.getHeader("Authorization")).willReturn("Bearer 123123");
             doReturn(claims).when(jwtUtil).extractClaims(any());
             given(claims.getSubject()).willReturn("1");
-            given(claims.get("email")).willReturn("a@a.com");
-            given(claims.get("userRole")).willReturn(UserRole.USER.name());
-            given(claims.get("userRole", String.class)).willReturn(UserRole.USER.name());
+            given(claims.get("email", String.class)).willReturn("a@a.com");
+            given(claims.get("userRole")).willReturn(UserRole.USER.getCode());
 
             // when & then
             doThrow(new SecurityException()).when(jwtUtil).extractClaims(any());
@@ -0,0 +1,191 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private JwtUtil jwtUtil(JwtKeyProperties keyProperties) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", Base64.getEncoder().encodeToString("this is test secret key this is test secret key this is test secret key this is test secret key".getBytes()));
+        ReflectionTestUtils.setField(jwtUtil, "keyProperties", keyProperties);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    private JwtKeyProperties.KeyEntry keyEntry(String kid, KeyPair keyPair, Instant activateAt) {
+        JwtKeyProperties.KeyEntry entry = new JwtKeyProperties.KeyEntry();
+        entry.setKid(kid);
+        entry.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        entry.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        entry.setActivateAt(activateAt);
+        return entry;
+    }
+
+    @Nested
+    @DisplayName("JwtUtil::createToken() & extractClaims()")
+    class Class1 {
+        @Test
+        @DisplayName("HS256 토큰은 kid 없이 발급되고 검증된다.")
+        void test1() {
+            // given
+            JwtUtil jwtUtil = jwtUtil(null);
+
+            // when
+            String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0));
+
+            // then
+            assertNull(jwtUtil.getActiveKid());
+            Claims claims = jwtUtil.extractClaims(token);
+            assertEquals("1", claims.getSubject());
+            assertEquals(UserRole.USER.getCode(), claims.get("userRole"));
+            assertEquals(UserRole.USER, jwtUtil.extractUserRole(claims));
+        }
+
+        @Test
+        @DisplayName("설정된 키 중 활성화 시각이 지난 최신 키로 서명하고, 모든 키로 검증한다.")
+        void test2() {
+            // given
+            KeyPair oldKey = Keys.keyPairFor(SignatureAlgorithm.ES256);
+            KeyPair currentKey = Keys.keyPairFor(SignatureAlgorithm.ES256);
+            KeyPair futureKey = Keys.keyPairFor(SignatureAlgorithm.ES256);
+            JwtKeyProperties keyProperties = new JwtKeyProperties();
+            keyProperties.setAlgorithm(SignatureAlgorithm.ES256);
+            keyProperties.setKeys(List.of(
+                    keyEntry("old", oldKey, Instant.now().minus(Duration.ofDays(2))),
+                    keyEntry("current", currentKey, Instant.now().minus(Duration.ofDays(1))),
+                    keyEntry("future", futureKey, Instant.now().plus(Duration.ofDays(1)))
+            ));
+            JwtUtil jwtUtil = jwtUtil(keyProperties);
+            String tokenFromOldKey = Jwts.builder()
+                    .setHeaderParam("kid", "old")
+                    .setSubject("2")
+                    .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(oldKey.getPrivate(), SignatureAlgorithm.ES256)
+                    .compact();
+
+            // when
+            String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0));
+
+            // then
+            assertEquals("current", jwtUtil.getActiveKid());
+            assertEquals("1", jwtUtil.extractClaims(token).getSubject());
+            assertEquals("2", jwtUtil.extractClaims(tokenFromOldKey).getSubject());
+        }
+
+        @Test
+        @DisplayName("알 수 없는 kid 의 토큰은 거부된다.")
+        void test3() {
+            // given
+            KeyPair key = Keys.keyPairFor(SignatureAlgorithm.RS256);
+            JwtKeyProperties keyProperties = new JwtKeyProperties();
+            keyProperties.setAlgorithm(SignatureAlgorithm.RS256);
+            keyProperties.setKeys(List.of(keyEntry("known", key, Instant.EPOCH)));
+            JwtUtil jwtUtil = jwtUtil(keyProperties);
+            String token = Jwts.builder()
+                    .setHeaderParam("kid", "unknown")
+                    .setSubject("1")
+                    .signWith(Keys.keyPairFor(SignatureAlgorithm.RS256).getPrivate(), SignatureAlgorithm.RS256)
+                    .compact();
+
+            // when & then
+            assertThrows(SignatureException.class, () -> jwtUtil.extractClaims(token));
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtUtil::createToken() 압축 형식")
+    class Class4 {
+        @Test
+        @DisplayName("압축 형식 토큰은 이메일 없이 더 짧게 발급되고 역할을 읽을 수 있다.")
+        void test1() {
+            // given
+            JwtUtil jwtUtil = jwtUtil(null);
+            String token = jwtUtil.createToken(1L, "someone.with.a.long.address@example.com", UserRole.ADMIN, 0);
+            ReflectionTestUtils.setField(jwtUtil, "compactClaims", true);
+
+            // when
+            String compactToken = jwtUtil.createToken(1L, "someone.with.a.long.address@example.com", UserRole.ADMIN, 0);
+
+            // then
+            assertTrue(compactToken.length() < token.length());
+            Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(compactToken));
+            assertNull(jwtUtil.extractEmail(claims));
+            assertEquals(UserRole.ADMIN, jwtUtil.extractUserRole(claims));
+            assertEquals("1", claims.getSubject());
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtUtil::extractUserRole()")
+    class Class3 {
+        @Test
+        @DisplayName("역할 이름으로 발급된 이전 토큰도 읽을 수 있다.")
+        void test1() {
+            // given
+            JwtUtil jwtUtil = jwtUtil(null);
+            Claims claims = Jwts.claims();
+            claims.put("userRole", UserRole.ADMIN.name());
+
+            // when & then
+            assertEquals(UserRole.ADMIN, jwtUtil.extractUserRole(claims));
+        }
+    }
+
+    @Nested
+    @DisplayName("JwtUtil::rotateKeys()")
+    class Class2 {
+        @Test
+        @DisplayName("주기가 지나면 새 키로 교체되고, 이전 키로 발급된 토큰도 검증된다.")
+        void test1() {
+            // given
+            JwtKeyProperties keyProperties = new JwtKeyProperties();
+            keyProperties.setAlgorithm(SignatureAlgorithm.ES256);
+            keyProperties.setRotationPeriod(Duration.ZERO);
+            JwtUtil jwtUtil = jwtUtil(keyProperties);
+            String previousKid = jwtUtil.getActiveKid();
+            String previousToken = jwtUtil.createRefreshToken(1L);
+
+            // when
+            jwtUtil.rotateKeys();
+
+            // then
+            assertNotEquals(previousKid, jwtUtil.getActiveKid());
+            assertEquals("1", jwtUtil.extractClaims(previousToken).getSubject());
+            assertEquals("2", jwtUtil.extractClaims(jwtUtil.createRefreshToken(2L)).getSubject());
+        }
+
+        @Test
+        @DisplayName("설정된 키의 활성 키가 바뀌지 않았으면 교체하지 않는다.")
+        void test2() {
+            // given
+            JwtKeyProperties keyProperties = new JwtKeyProperties();
+            keyProperties.setAlgorithm(SignatureAlgorithm.RS256);
+            keyProperties.setKeys(List.of(keyEntry("only", Keys.keyPairFor(SignatureAlgorithm.RS256), Instant.EPOCH)));
+            JwtUtil jwtUtil = jwtUtil(keyProperties);
+
+            // when
+            jwtUtil.rotateKeys();
+
+            // then
+            assertEquals("only", jwtUtil.getActiveKid());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.example.expert.config;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,7 +40,7 @@ public class LogAspectTest {
         Long userId = 1L;
         String servletPath = "path";
         String time = "time";
-        given(httpServletRequest.getAttribute("userId")).willReturn(userId);
+        given(httpServletRequest.getAttribute(JwtFilter.AUTH_USER_ATTRIBUTE)).willReturn(new AuthUser(userId, "a@a.com", UserRole.USER));
         given(httpServletRequest.getServletPath()).willReturn(servletPath);
         RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpServletRequest));
         given(localDateTime.format(DateTimeFormatter.ISO_DATE_TIME)).willReturn(time);
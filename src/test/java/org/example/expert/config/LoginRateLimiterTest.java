@@ -0,0 +1,145 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginRateLimiterTest {
+
+    private static final long REFILL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Nested
+    @DisplayName("LoginRateLimiter::acquire()")
+    class Class1 {
+        @Test
+        @DisplayName("같은 이메일로 허용량을 넘으면 예외가 발생한다.")
+        void test1() {
+            // given
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(3, 100, REFILL_NANOS, 1000, 5, clock::get);
+            for (int i = 0; i < 3; i++) {
+                loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+            }
+
+            // when & then
+            TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("A@a.com", "127.0.0.2"));
+            assertEquals("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", exception.getMessage());
+            assertDoesNotThrow(() -> loginRateLimiter.acquire("b@b.com", "127.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("같은 IP에서 허용량을 넘으면 예외가 발생한다.")
+        void test2() {
+            // given
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(100, 2, REFILL_NANOS, 1000, 5, clock::get);
+            loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+            loginRateLimiter.acquire("b@b.com", "127.0.0.1");
+
+            // when & then
+            assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("c@c.com", "127.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("시간이 지나면 토큰이 다시 채워진다.")
+        void test3() {
+            // given
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(2, 100, REFILL_NANOS, 1000, 5, clock::get);
+            loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+            loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+            assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("a@a.com", "127.0.0.1"));
+
+            // when
+            clock.addAndGet(REFILL_NANOS / 2);
+
+            // then
+            assertDoesNotThrow(() -> loginRateLimiter.acquire("a@a.com", "127.0.0.1"));
+            assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("a@a.com", "127.0.0.1"));
+            assertEquals(2, loginRateLimiter.getRejectedByEmail());
+            assertEquals(0, loginRateLimiter.getRejectedByIp());
+        }
+
+        @Test
+        @DisplayName("추적하는 키 수는 상한을 넘지 않고, 상한에 닿으면 새 키는 overflow 허용량만큼만 통과한다.")
+        void test4() {
+            // given
+            int maxKeys = 64;
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(5, 5, REFILL_NANOS, maxKeys, 5, clock::get);
+
+            // when
+            int rejected = 0;
+            for (int i = 0; i < 10_000; i++) {
+                try {
+                    loginRateLimiter.acquire("user" + i + "@a.com", "10.0." + (i / 256) + "." + (i % 256));
+                } catch (TooManyRequestsException e) {
+                    rejected++;
+                }
+            }
+
+            // then
+            assertTrue(loginRateLimiter.getTrackedKeys() <= maxKeys * 2);
+            assertTrue(rejected > 0);
+            assertEquals(rejected, loginRateLimiter.getRejectedByEmail() + loginRateLimiter.getRejectedByIp());
+        }
+
+        @Test
+        @DisplayName("새 키를 대량으로 만들어도 제한에 걸린 키는 풀리지 않는다.")
+        void test5() {
+            // given
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(2, 100_000, REFILL_NANOS, 64, 5, clock::get);
+            loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+            loginRateLimiter.acquire("a@a.com", "127.0.0.1");
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                try {
+                    loginRateLimiter.acquire("user" + i + "@a.com", "127.0.0.1");
+                } catch (TooManyRequestsException ignored) {
+                }
+            }
+
+            // then
+            assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.acquire("a@a.com", "127.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("토큰이 모두 채워진 유휴 버킷은 정리되어 새 키가 들어올 자리가 생긴다.")
+        void test6() {
+            // given
+            int maxKeys = 16;
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(5, 100_000, REFILL_NANOS, maxKeys, 5, clock::get);
+            for (int i = 0; i < 1_000; i++) {
+                try {
+                    loginRateLimiter.acquire("user" + i + "@a.com", "127.0.0.1");
+                } catch (TooManyRequestsException ignored) {
+                }
+            }
+
+            // when
+            clock.addAndGet(REFILL_NANOS);
+
+            // then
+            assertDoesNotThrow(() -> loginRateLimiter.acquire("new@a.com", "127.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("제한에 걸린 키로 자리가 가득 차도 처음 로그인하는 유저는 overflow 버킷으로 통과한다.")
+        void test7() {
+            // given
+            int maxKeys = 16;
+            LoginRateLimiter loginRateLimiter = new LoginRateLimiter(1, 100_000, REFILL_NANOS, maxKeys, 1_000, clock::get);
+            for (int i = 0; i < 500; i++) {
+                loginRateLimiter.acquire("user" + i + "@a.com", "127.0.0.1");
+            }
+
+            // when & then
+            assertDoesNotThrow(() -> loginRateLimiter.acquire("new@a.com", "127.0.0.1"));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class QueryCounterTest {
+
+    QueryCounter queryCounter = new QueryCounter();
+
+    @Nested
+    @DisplayName("QueryCounter::inspect()")
+    class Class1 {
+        @Test
+        @DisplayName("세는 중에 실행된 SQL 만 센다.")
+        void test1() {
+            // given
+            queryCounter.inspect("select 1");
+            QueryCounter.start();
+
+            // when
+            queryCounter.inspect("select 1");
+            queryCounter.inspect("select 2");
+
+            // then
+            assertEquals(2, QueryCounter.stop());
+            assertEquals(0, QueryCounter.current());
+        }
+
+        @Test
+        @DisplayName("SQL 은 바꾸지 않는다.")
+        void test2() {
+            assertEquals("select 1", queryCounter.inspect("select 1"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RoutePolicyTest {
+
+    @Nested
+    @DisplayName("RoutePolicy::resolve()")
+    class Class1 {
+        @Test
+        @DisplayName("첫 번째 경로 세그먼트로 정책이 결정된다.")
+        void test1() {
+            assertEquals(RoutePolicy.PUBLIC, RoutePolicy.resolve("/auth"));
+            assertEquals(RoutePolicy.PUBLIC, RoutePolicy.resolve("/auth/signin"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/admin"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/admin/users/1"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/todos"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve(""));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/"));
+        }
+
+        @Test
+        @DisplayName("세그먼트 일부만 일치하면 정책이 적용되지 않는다.")
+        void test2() {
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/authors"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/administrators/1"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/todos/auth"));
+        }
+
+        @Test
+        @DisplayName("';' 매개변수나 인코딩으로 감싼 관리자 경로도 관리자 정책이 적용된다.")
+        void test3() {
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/admin;x=1/users/1"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/admin;/events"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/%61dmin/slow-queries"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("//admin/users/1"));
+            assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve("/%zz"));
+        }
+
+        @Test
+        @DisplayName("';' 매개변수가 붙은 공개 경로는 인증이 필요하다.")
+        void test4() {
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/auth;x/.."));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/auth;x/signin"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/%61uth/signin"));
+            assertEquals(RoutePolicy.AUTHENTICATED, RoutePolicy.resolve("/todos;x=1/1"));
+        }
+
+        @Test
+        @DisplayName("Spring MVC 가 관리자 경로로 매핑하는 URI 는 모두 관리자 정책이 적용된다.")
+        void test5() {
+            PathPattern adminPattern = PathPatternParser.defaultInstance.parse("/admin/**");
+            String[] uris = {"/admin/users/1", "/admin;x=1/users/1", "/admin;a=b;c=d/events", "/%61dmin/events",
+                    "/adm%69n;x/slow-queries", "/admin/", "/todos/1", "/auth;x/.."};
+
+            for (String uri : uris) {
+                if (adminPattern.matches(PathContainer.parsePath(uri))) {
+                    assertEquals(RoutePolicy.ADMIN, RoutePolicy.resolve(uri), uri);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoPurger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig({SchedulingConfig.class, TodoPurger.class, SchedulingConfigTest.Repositories.class, SchedulingConfigTest.Heartbeat.class})
+@TestPropertySource(properties = "todo.purge.interval-ms=10")
+public class SchedulingConfigTest {
+
+    static final CountDownLatch purgeStarted = new CountDownLatch(1);
+    static final CountDownLatch purgeReleased = new CountDownLatch(1);
+    static final CountDownLatch heartbeats = new CountDownLatch(3);
+    static final AtomicReference<String> purgeThread = new AtomicReference<>();
+
+    // 스케줄러가 시작되기 전에 스텁을 끝내도록 빈을 만들 때 설정합니다. 정리 대상 조회가 풀릴 때까지 멈춥니다.
+    static class Repositories {
+        @Bean
+        TodoRepository todoRepository() {
+            TodoRepository todoRepository = mock(TodoRepository.class);
+            given(todoRepository.findDeletedIds(anyInt())).willAnswer(invocation -> {
+                purgeThread.compareAndSet(null, Thread.currentThread().getName());
+                purgeStarted.countDown();
+                purgeReleased.await();
+                return List.of();
+            });
+            return todoRepository;
+        }
+
+        @Bean
+        CommentRepository commentRepository() {
+            return mock(CommentRepository.class);
+        }
+
+        @Bean
+        ManagerRepository managerRepository() {
+            return mock(ManagerRepository.class);
+        }
+    }
+
+    static class Heartbeat {
+        @Scheduled(fixedDelay = 10)
+        public void beat() {
+            if (purgeStarted.getCount() == 0) {
+                heartbeats.countDown();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("SchedulingConfig::todoPurgeScheduler()")
+    class Class1 {
+        @Test
+        @DisplayName("일정 정리가 오래 걸려도 다른 @Scheduled 작업은 계속 실행된다.")
+        void test1() throws InterruptedException {
+            // when
+            assertTrue(purgeStarted.await(5, TimeUnit.SECONDS));
+
+            // then
+            try {
+                assertTrue(heartbeats.await(5, TimeUnit.SECONDS));
+                assertTrue(purgeThread.get().startsWith("todo-purge-"));
+            } finally {
+                purgeReleased.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenRevocationListTest {
+
+    TokenRevocationList tokenRevocationList = new TokenRevocationList();
+
+    @Nested
+    @DisplayName("TokenRevocationList::isRevoked()")
+    class Class1 {
+        @Test
+        @DisplayName("폐기 이전에 발급된 토큰만 폐기된다.")
+        void test1() {
+            // given
+            Date issuedBefore = new Date(System.currentTimeMillis() - 2000);
+            Date issuedAfter = new Date(System.currentTimeMillis() + 2000);
+
+            // when
+            tokenRevocationList.revokeTokens(1L);
+
+            // then
+            assertTrue(tokenRevocationList.isRevoked(1L, issuedBefore));
+            assertFalse(tokenRevocationList.isRevoked(1L, issuedAfter));
+            assertFalse(tokenRevocationList.isRevoked(2L, issuedBefore));
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenRevocationList::consumeRefreshToken()")
+    class Class2 {
+        @Test
+        @DisplayName("리프레시 토큰은 한 번만 사용할 수 있다.")
+        void test1() {
+            // given
+            Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+            // when & then
+            assertTrue(tokenRevocationList.consumeRefreshToken("jti", expiration));
+            assertFalse(tokenRevocationList.consumeRefreshToken("jti", expiration));
+        }
+    }
+
+    @Nested
+    @DisplayName("TokenRevocationList::prune()")
+    class Class3 {
+        @Test
+        @DisplayName("만료된 기록은 정리된다.")
+        void test1() {
+            // given
+            tokenRevocationList.consumeRefreshToken("expired", new Date(System.currentTimeMillis() - 1));
+            tokenRevocationList.consumeRefreshToken("alive", new Date(System.currentTimeMillis() + 60_000));
+
+            // when
+            tokenRevocationList.prune();
+
+            // then
+            assertEquals(1, tokenRevocationList.size());
+            assertFalse(tokenRevocationList.consumeRefreshToken("alive", new Date()));
+            assertTrue(tokenRevocationList.consumeRefreshToken("expired", new Date()));
+        }
+    }
+}
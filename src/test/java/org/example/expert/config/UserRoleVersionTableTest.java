@@ -0,0 +1,76 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class UserRoleVersionTableTest {
+    @InjectMocks
+    UserRoleVersionTable userRoleVersionTable;
+
+    @Mock
+    UserRepository userRepository;
+
+    @Nested
+    @DisplayName("UserRoleVersionTable::load()")
+    class Class1 {
+        @Test
+        @DisplayName("권한이 변경된 유저의 버전을 불러온다.")
+        void test1() {
+            // given
+            User user = new User("a@a.com", "password", UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            ReflectionTestUtils.setField(user, "roleVersion", 1);
+            given(userRepository.findByRoleVersionGreaterThan(0)).willReturn(List.of(user));
+
+            // when
+            userRoleVersionTable.load();
+
+            // then
+            assertTrue(userRoleVersionTable.isStale(1L, 0));
+            assertFalse(userRoleVersionTable.isStale(1L, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("UserRoleVersionTable::isStale()")
+    class Class2 {
+        @Test
+        @DisplayName("현재 버전보다 낮은 버전의 토큰만 거부된다.")
+        void test1() {
+            // when
+            userRoleVersionTable.update(1L, 2);
+
+            // then
+            assertTrue(userRoleVersionTable.isStale(1L, 1));
+            assertFalse(userRoleVersionTable.isStale(1L, 2));
+            assertFalse(userRoleVersionTable.isStale(2L, 0));
+        }
+
+        @Test
+        @DisplayName("늦게 도착한 이전 버전으로 덮어쓰지 않는다.")
+        void test2() {
+            // when
+            userRoleVersionTable.update(1L, 2);
+            userRoleVersionTable.update(1L, 1);
+
+            // then
+            assertTrue(userRoleVersionTable.isStale(1L, 1));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.expert.dataset;
+
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.service.TodoCounterReconciler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoCounterReconciler.class})
+public class DatasetGeneratorTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TodoCounterReconciler todoCounterReconciler;
+
+    @Nested
+    @DisplayName("DatasetGenerator::run()")
+    class Class1 {
+        @Test
+        @DisplayName("한 일정에 같은 유저가 담당자로 두 번 등록되지 않는다.")
+        void test1() {
+            // given
+            DatasetGenerator datasetGenerator = new DatasetGenerator(jdbcTemplate, new PasswordEncoder(), todoCounterReconciler,
+                    5, 200, 0, 3, 1.1, 30, 42, "Password1234", 100);
+
+            // when
+            datasetGenerator.run(null);
+
+            // then
+            Integer duplicates = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM (SELECT user_id, todo_id FROM managers GROUP BY user_id, todo_id HAVING COUNT(*) > 1) d", Integer.class);
+            Integer maxManagers = jdbcTemplate.queryForObject("SELECT MAX(manager_count) FROM todos", Integer.class);
+            assertEquals(0, duplicates);
+            assertEquals(5, maxManagers);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.expert.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfSamplerTest {
+
+    @Nested
+    @DisplayName("ZipfSampler::sample()")
+    class Class1 {
+        @Test
+        @DisplayName("1 ~ n 범위의 값만 뽑는다.")
+        void test1() {
+            // given
+            ZipfSampler zipfSampler = new ZipfSampler(10, 1.1);
+            Random random = new Random(42);
+
+            // when & then
+            for (int i = 0; i < 10_000; i++) {
+                long sample = zipfSampler.sample(random);
+                assertTrue(sample >= 1 && sample <= 10);
+            }
+        }
+
+        @Test
+        @DisplayName("앞 번호가 더 자주 뽑힌다.")
+        void test2() {
+            // given
+            ZipfSampler zipfSampler = new ZipfSampler(1_000, 1.1);
+            Random random = new Random(42);
+            int first = 0;
+            int last = 0;
+
+            // when
+            for (int i = 0; i < 100_000; i++) {
+                long sample = zipfSampler.sample(random);
+                if (sample <= 10) {
+                    first++;
+                } else if (sample > 990) {
+                    last++;
+                }
+            }
+
+            // then
+            assertTrue(first > last * 10);
+        }
+
+        @Test
+        @DisplayName("같은 시드면 같은 값이 뽑힌다.")
+        void test3() {
+            // given
+            ZipfSampler zipfSampler = new ZipfSampler(1_000_000, 1.0);
+            Random random1 = new Random(7);
+            Random random2 = new Random(7);
+
+            // when & then
+            for (int i = 0; i < 100; i++) {
+                assertEquals(zipfSampler.sample(random1), zipfSampler.sample(random2));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 범위는 예외가 발생한다.")
+    void test1() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.1));
+    }
+}
@@ -0,0 +1,402 @@
+package org.example.expert.domain;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.ETags;
+import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.TokenRevocationList;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
+import org.example.expert.domain.comment.service.CommentAdminService;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.search.service.TodoSearchIndex;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoScrollResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.example.expert.support.QueryCountAssertions.assertQueryCount;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 서비스가 데이터 개수와 관계없이 정해진 수의 쿼리만 실행하는지 검증합니다.
+ * 연관 엔티티를 지연 로딩하는 코드가 추가되면 개수가 늘어나 실패합니다.
+ * 쓰기 서비스는 커밋 때 나가는 UPDATE 까지 세도록 호출 직후 flush 합니다.
+ */
+@DataJpaTest
+@Import({PersistenceConfig.class, PasswordEncoder.class, TodoService.class, CommentService.class, CommentAdminService.class,
+        ManagerService.class, UserService.class, TokenRevocationList.class})
+public class ServiceQueryCountTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentAdminService commentAdminService;
+
+    @Autowired
+    ManagerService managerService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    PasswordEncoder passwordEncoder;
+
+    @MockBean
+    WeatherClient weatherClient;
+
+    @MockBean
+    TodoSearchIndex todoSearchIndex;
+
+    @MockBean
+    ChangeEventPublisher changeEventPublisher;
+
+    List<User> users;
+    Todo todo;
+
+    @BeforeEach
+    void prepare() {
+        users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            users.add(entityManager.persist(new User("user" + i + "@example.com", "password", UserRole.USER)));
+        }
+        for (int i = 0; i < 3; i++) {
+            todo = entityManager.persist(new Todo("title" + i, "contents" + i, "Sunny", users.get(i)));
+        }
+        for (User user : users) {
+            entityManager.persist(new Comment("comment", user, todo));
+        }
+        entityManager.persist(new Manager(users.get(0), todo));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("TodoService")
+    class Class1 {
+        @Test
+        @DisplayName("getTodos()는 목록과 개수 조회 쿼리만 실행한다.")
+        void test1() {
+            Page<TodoResponse> todos = assertQueryCount(2, () -> todoService.getTodos(1, 2));
+            assertEquals(3, todos.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("getTodo()는 쿼리 한 번으로 작성자까지 조회한다.")
+        void test2() {
+            assertQueryCount(1, () -> todoService.getTodo(todo.getId()));
+        }
+
+        @Test
+        @DisplayName("getTodoETag()는 본문을 읽지 않고 쿼리 한 번으로 본문과 같은 ETag 를 만든다.")
+        void test3() {
+            // when
+            String eTag = assertQueryCount(1, () -> todoService.getTodoETag(todo.getId()));
+
+            // then
+            TodoResponse response = todoService.getTodo(todo.getId());
+            assertEquals(ETags.of(response.getVersion(), response.getCommentCount(), response.getManagerCount()), eTag);
+            assertNull(todoService.getTodoETag(-1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("CommentService::forEachComment()")
+    class Class2 {
+        @Test
+        @DisplayName("forEachComment()는 쿼리 한 번으로 작성자까지 차례로 넘긴다.")
+        void test2() {
+            List<CommentResponse> comments = new ArrayList<>();
+            assertQueryCount(1, () -> {
+                commentService.forEachComment(todo.getId(), comments::add);
+                return comments;
+            });
+            assertEquals(3, comments.size());
+            assertEquals(users.get(0).getEmail(), comments.get(0).getUser().getEmail());
+        }
+    }
+
+    @Nested
+    @DisplayName("ManagerService::forEachManager()")
+    class Class3 {
+        @Test
+        @DisplayName("forEachManager()는 쿼리 한 번으로 담당자를 차례로 넘긴다.")
+        void test2() {
+            List<ManagerResponse> managers = new ArrayList<>();
+            assertQueryCount(1, () -> {
+                managerService.forEachManager(todo.getId(), managers::add);
+                return managers;
+            });
+            assertEquals(2, managers.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoService::scrollTodos()")
+    class Class4 {
+        @Test
+        @DisplayName("필터를 적용하고 쿼리 한 번으로 작성자까지 조회한다.")
+        void test1() {
+            // given
+            TodoSearchCondition condition = new TodoSearchCondition("Sunny", users.get(1).getId(), null, null);
+
+            // when
+            TodoScrollResponse response = assertQueryCount(1, () -> todoService.scrollTodos(condition, null, 10));
+
+            // then
+            assertEquals(1, response.getTodos().size());
+            assertEquals("title1", response.getTodos().get(0).getTitle());
+            assertEquals(users.get(1).getEmail(), response.getTodos().get(0).getUser().getEmail());
+            assertNull(response.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("커서를 따라가면 수정일 내림차순으로 빠짐없이 조회된다.")
+        void test2() {
+            // given
+            TodoSearchCondition condition = new TodoSearchCondition();
+
+            // when
+            TodoScrollResponse first = todoService.scrollTodos(condition, null, 2);
+            TodoScrollResponse second = todoService.scrollTodos(condition, first.getNextCursor(), 2);
+
+            // then
+            assertEquals(List.of("title2", "title1"), first.getTodos().stream().map(TodoResponse::getTitle).toList());
+            assertNotNull(first.getNextCursor());
+            assertEquals(List.of("title0"), second.getTodos().stream().map(TodoResponse::getTitle).toList());
+            assertNull(second.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("수정일 범위 밖의 일정은 제외된다.")
+        void test3() {
+            // given
+            LocalDateTime future = LocalDateTime.now().plusDays(1);
+            TodoSearchCondition condition = new TodoSearchCondition(null, null, future, null);
+
+            // when
+            TodoScrollResponse response = todoService.scrollTodos(condition, null, 10);
+
+            // then
+            assertTrue(response.getTodos().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoService::scrollMyTodos()")
+    class Class5 {
+        @Test
+        @DisplayName("작성한 일정과 담당 일정을 중복 없이 쿼리 두 번으로 조회한다.")
+        void test1() {
+            // when
+            TodoScrollResponse response = assertQueryCount(2,
+                    () -> todoService.scrollMyTodos(users.get(0).getId(), null, 10));
+
+            // then
+            assertEquals(List.of("title2", "title0"), response.getTodos().stream().map(TodoResponse::getTitle).toList());
+            assertNull(response.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("커서를 따라가면 합집합을 순서대로 이어서 조회한다.")
+        void test2() {
+            // when
+            TodoScrollResponse first = todoService.scrollMyTodos(users.get(0).getId(), null, 1);
+            TodoScrollResponse second = todoService.scrollMyTodos(users.get(0).getId(), first.getNextCursor(), 1);
+
+            // then
+            assertEquals(List.of("title2"), first.getTodos().stream().map(TodoResponse::getTitle).toList());
+            assertEquals(List.of("title0"), second.getTodos().stream().map(TodoResponse::getTitle).toList());
+            assertNull(second.getNextCursor());
+        }
+    }
+
+    @Nested
+    @DisplayName("CommentAdminService::deleteCommentsByUser()")
+    class Class6 {
+        @Test
+        @DisplayName("댓글 수와 관계없이 chunk 마다 정해진 수의 쿼리로 지우고 카운터를 줄인다.")
+        void test1() {
+            // given
+            Todo other = entityManager.persist(new Todo("other", "contents", "Sunny", users.get(0)));
+            entityManager.persist(new Comment("comment", users.get(0), other));
+            todoRepository.addCommentCount(todo.getId(), 3);
+            todoRepository.addCommentCount(other.getId(), 1);
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            // id 조회, 일정별 개수 조회, 삭제, 일정 두 개의 카운터 감소, 마지막 빈 조회
+            CommentBulkDeleteResponse response = assertQueryCount(6,
+                    () -> commentAdminService.deleteCommentsByUser(users.get(0).getId()));
+            entityManager.clear();
+
+            // then
+            assertEquals(2, response.getDeletedCount());
+            assertEquals(2, entityManager.find(Todo.class, todo.getId()).getCommentCount());
+            assertEquals(0, entityManager.find(Todo.class, other.getId()).getCommentCount());
+            List<CommentResponse> remaining = new ArrayList<>();
+            commentService.forEachComment(todo.getId(), remaining::add);
+            assertEquals(2, remaining.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("CommentService::getCommentsETag()")
+    class Class7 {
+        @Test
+        @DisplayName("댓글을 읽지 않고 쿼리 한 번으로 ETag 를 만들고, 댓글이 추가되면 ETag 가 바뀐다.")
+        void test1() {
+            // given
+            String before = assertQueryCount(1, () -> commentService.getCommentsETag(todo.getId()));
+            User user = users.get(0);
+            AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+
+            // when
+            commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("new"));
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            assertNotEquals(before, commentService.getCommentsETag(todo.getId()));
+            assertNull(commentService.getCommentsETag(-1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("쓰기 서비스")
+    class Class8 {
+
+        private AuthUser authUser(User user) {
+            return new AuthUser(user.getId(), user.getEmail(), user.getUserRole());
+        }
+
+        @Test
+        @DisplayName("TodoService::saveTodo()는 일정과 작성자 담당자 INSERT 만 실행하고, 담당자 추가 이벤트도 남긴다.")
+        void test1() {
+            // given
+            AuthUser authUser = authUser(users.get(0));
+
+            // when
+            TodoSaveResponse response = assertQueryCount(2, () -> {
+                TodoSaveResponse saved = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+                entityManager.flush();
+                return saved;
+            });
+
+            // then
+            verify(changeEventPublisher).publish(eq(EventAggregate.MANAGER), notNull(), eq(response.getId()), eq(ChangeType.CREATED), any());
+        }
+
+        @Test
+        @DisplayName("CommentService::saveComment()는 일정 조회, 댓글 INSERT, 카운터 증가만 실행한다.")
+        void test2() {
+            // given
+            AuthUser authUser = authUser(users.get(1));
+
+            // when
+            assertQueryCount(3, () -> {
+                commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("contents"));
+                entityManager.flush();
+                return null;
+            });
+        }
+
+        @Test
+        @DisplayName("ManagerService::saveManager()는 일정과 유저 조회, 담당자 INSERT, 카운터 증가만 실행한다.")
+        void test3() {
+            // given
+            AuthUser authUser = authUser(users.get(2));
+
+            // when
+            ManagerSaveResponse response = assertQueryCount(4, () -> {
+                ManagerSaveResponse saved = managerService.saveManager(authUser, todo.getId(), new ManagerSaveRequest(users.get(1).getId()));
+                entityManager.flush();
+                return saved;
+            });
+
+            // then
+            assertEquals(users.get(1).getEmail(), response.getUser().getEmail());
+        }
+
+        @Test
+        @DisplayName("ManagerService::deleteManager()는 유저, 일정, 담당자 조회와 DELETE, 카운터 감소만 실행한다.")
+        void test4() {
+            // given
+            Manager manager = entityManager.persist(new Manager(users.get(1), todo));
+            entityManager.flush();
+            entityManager.clear();
+            long managerId = manager.getId();
+
+            // when
+            assertQueryCount(5, () -> {
+                managerService.deleteManager(users.get(2).getId(), todo.getId(), managerId);
+                entityManager.flush();
+                return null;
+            });
+        }
+
+        @Test
+        @DisplayName("UserService::changePassword()는 유저 조회와 UPDATE 만 실행한다.")
+        void test5() {
+            // given
+            User user = entityManager.persist(new User("change@example.com", passwordEncoder.encode("Password1234"), UserRole.USER));
+            entityManager.flush();
+            entityManager.clear();
+
+            // when
+            assertQueryCount(2, () -> {
+                userService.changePassword(user.getId(), new UserChangePasswordRequest("Password1234", "Password5678"));
+                entityManager.flush();
+                return null;
+            });
+        }
+    }
+}
@@ -2,10 +2,13 @@ package org.example.expert.domain.auth.service;
 
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
@@ -20,6 +23,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Base64;
@@ -28,7 +33,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class AuthServiceTest {
@@ -41,6 +48,12 @@ public class AuthServiceTest {
     @Spy
     JwtUtil jwtUtil;
 
+    @Mock
+    EmailBloomFilter emailBloomFilter;
+
+    @Mock
+    TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     AuthService authService;
 
@@ -58,6 +71,7 @@ public class AuthServiceTest {
         void test1() {
             // given
             SignupRequest signupRequest = new SignupRequest("a@a.com", "password", UserRole.USER.name());
+            given(emailBloomFilter.mightContain(anyString())).willReturn(true);
             given(userRepository.existsByEmail(anyString())).willReturn(true);
 
             // when & then
@@ -71,6 +85,7 @@ public class AuthServiceTest {
             // given
             SignupRequest signupRequest = new SignupRequest("a@a.com", "password", UserRole.USER.name());
             Long userId = 1L;
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(true);
             given(userRepository.existsByEmail(signupRequest.getEmail())).willReturn(false);
             given(userRepository.save(any())).willAnswer(invocationOnMock -> {
                 Object user = invocationOnMock.getArgument(0);
@@ -84,6 +99,50 @@ public class AuthServiceTest {
             // then
             assertNotNull(signupResponse.getBearerToken());
             assertTrue(signupResponse.getBearerToken().startsWith("Bearer"));
+            verify(emailBloomFilter, times(1)).put(signupRequest.getEmail());
+        }
+
+        @Test
+        @DisplayName("필터에 없는 이메일은 중복 조회 없이 가입된다.")
+        void test3() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("a@a.com", "password", UserRole.USER.name());
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+            given(userRepository.save(any())).willAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
+
+            // when
+            authService.signup(signupRequest);
+
+            // then
+            verify(userRepository, never()).existsByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("unique 제약에 걸리면 이미 존재하는 이메일 예외가 발생한다.")
+        void test4() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("a@a.com", "password", UserRole.USER.name());
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+            given(userRepository.save(any())).willThrow(new DataIntegrityViolationException("duplicate",
+                    new ConstraintViolationException("duplicate", null, "PUBLIC.UK_USERS_EMAIL_INDEX_4")));
+
+            // when & then
+            InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> authService.signup(signupRequest));
+            assertEquals(invalidRequestException.getMessage(), "이미 존재하는 이메일입니다.");
+        }
+
+        @Test
+        @DisplayName("이메일이 아닌 다른 제약 위반은 그대로 전달된다.")
+        void test5() {
+            // given
+            SignupRequest signupRequest = new SignupRequest("a@a.com", "password", UserRole.USER.name());
+            given(emailBloomFilter.mightContain(signupRequest.getEmail())).willReturn(false);
+            DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                    new ConstraintViolationException("not null", null, "PUBLIC.CONSTRAINT_4"));
+            given(userRepository.save(any())).willThrow(violation);
+
+            // when & then
+            assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> authService.signup(signupRequest)));
         }
     }
 
@@ -95,11 +154,45 @@ public class AuthServiceTest {
         void test1() {
             // given
             SigninRequest signinRequest = new SigninRequest("a@a.com", "password");
+            given(emailBloomFilter.isAuthoritative()).willReturn(true);
+            given(emailBloomFilter.mightContain(anyString())).willReturn(true);
             given(userRepository.findByEmail(anyString())).willReturn(Optional.empty());
 
             // when & then
             InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> authService.signin(signinRequest));
             assertEquals(invalidRequestException.getMessage(), "가입되지 않은 유저입니다.");
+            verify(emailBloomFilter, times(1)).recordFalsePositive();
+        }
+
+        @Test
+        @DisplayName("단일 노드 배포에서는 필터에 없는 이메일은 DB 조회 없이 예외가 발생한다.")
+        void test1_2() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("a@a.com", "password");
+            given(emailBloomFilter.isAuthoritative()).willReturn(true);
+            given(emailBloomFilter.mightContain(anyString())).willReturn(false);
+
+            // when & then
+            InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> authService.signin(signinRequest));
+            assertEquals(invalidRequestException.getMessage(), "가입되지 않은 유저입니다.");
+            verify(userRepository, never()).findByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("여러 노드 배포에서는 필터와 관계없이 DB 에서 유저를 찾는다.")
+        void test1_3() {
+            // given
+            SigninRequest signinRequest = new SigninRequest("a@a.com", "password");
+            User user = new User("a@a.com", passwordEncoder.encode("password"), UserRole.USER);
+            ReflectionTestUtils.setField(user, "id", 1L);
+            given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
+
+            // when
+            SigninResponse signinResponse = authService.signin(signinRequest);
+
+            // then
+            assertNotNull(signinResponse.getBearerToken());
+            verify(emailBloomFilter, never()).mightContain(anyString());
         }
 
         @Test
@@ -135,4 +228,76 @@ public class AuthServiceTest {
             assertTrue(signinResponse.getBearerToken().startsWith("Bearer"));
         }
     }
+
+    @Nested
+    @DisplayName("AuthService::refresh()")
+    class Class3 {
+        @Test
+        @DisplayName("리프레시 토큰이 아니면 예외가 발생한다.")
+        void test1() {
+            // given
+            String accessToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER, 0));
+            TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest(accessToken);
+
+            // when & then
+            AuthException authException = assertThrows(AuthException.class, () -> authService.refresh(tokenRefreshRequest));
+            assertEquals(authException.getMessage(), "유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        @Test
+        @DisplayName("잘못된 형식의 토큰이면 예외가 발생한다.")
+        void test2() {
+            // given
+            TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest("invalid");
+
+            // when & then
+            AuthException authException = assertThrows(AuthException.class, () -> authService.refresh(tokenRefreshRequest));
+            assertEquals(authException.getMessage(), "유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        @Test
+        @DisplayName("이미 사용된 리프레시 토큰이면 예외가 발생한다.")
+        void test3() {
+            // given
+            TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest(jwtUtil.createRefreshToken(1L));
+            given(tokenRevocationList.consumeRefreshToken(anyString(), any())).willReturn(false);
+
+            // when & then
+            AuthException authException = assertThrows(AuthException.class, () -> authService.refresh(tokenRefreshRequest));
+            assertEquals(authException.getMessage(), "이미 사용된 리프레시 토큰입니다.");
+        }
+
+        @Test
+        @DisplayName("폐기된 리프레시 토큰이면 사용 기록을 남기지 않고 예외가 발생한다.")
+        void test5() {
+            // given
+            TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest(jwtUtil.createRefreshToken(1L));
+            given(tokenRevocationList.isRevoked(eq(1L), any())).willReturn(true);
+
+            // when & then
+            AuthException authException = assertThrows(AuthException.class, () -> authService.refresh(tokenRefreshRequest));
+            assertEquals(authException.getMessage(), "폐기된 리프레시 토큰입니다.");
+            verify(tokenRevocationList, never()).consumeRefreshToken(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("현재 권한이 담긴 새 토큰 쌍이 발급된다.")
+        void test4() {
+            // given
+            Long userId = 1L;
+            User user = new User("a@a.com", "password", UserRole.ADMIN);
+            ReflectionTestUtils.setField(user, "id", userId);
+            TokenRefreshRequest tokenRefreshRequest = new TokenRefreshRequest(jwtUtil.createRefreshToken(userId));
+            given(tokenRevocationList.consumeRefreshToken(anyString(), any())).willReturn(true);
+            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+
+            // when
+            TokenRefreshResponse tokenRefreshResponse = authService.refresh(tokenRefreshRequest);
+
+            // then
+            String accessToken = jwtUtil.substringToken(tokenRefreshResponse.getBearerToken());
+            assertEquals(UserRole.ADMIN, jwtUtil.extractUserRole(jwtUtil.extractClaims(accessToken)));
+            assertTrue(jwtUtil.isRefreshToken(jwtUtil.extractClaims(tokenRefreshResponse.getRefreshToken())));
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailBloomFilterTest {
+    @Mock
+    UserRepository userRepository;
+
+    @Nested
+    @DisplayName("EmailBloomFilter::mightContain()")
+    class Class1 {
+        @Test
+        @DisplayName("로딩 전에는 항상 true 를 반환한다.")
+        void test1() {
+            // given
+            EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, true, false, 1000, 0.01);
+
+            // when & then
+            assertFalse(emailBloomFilter.isLoaded());
+            assertTrue(emailBloomFilter.mightContain("a@a.com"));
+        }
+
+        @Test
+        @DisplayName("등록된 이메일은 대소문자와 관계없이 false negative 가 없다.")
+        void test2() {
+            // given
+            int users = 10_000;
+            given(userRepository.streamAllEmails()).willReturn(IntStream.range(0, users).mapToObj(i -> "user" + i + "@a.com"));
+            EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, true, false, users, 0.01);
+
+            // when
+            emailBloomFilter.load();
+            emailBloomFilter.put("New@a.com");
+
+            // then
+            for (int i = 0; i < users; i++) {
+                assertTrue(emailBloomFilter.mightContain("user" + i + "@a.com"));
+            }
+            assertTrue(emailBloomFilter.mightContain("new@A.com"));
+        }
+
+        @Test
+        @DisplayName("미가입 이메일의 false positive 비율이 설정값 근처로 유지된다.")
+        void test3() {
+            // given
+            int users = 10_000;
+            given(userRepository.streamAllEmails()).willReturn(IntStream.range(0, users).mapToObj(i -> "user" + i + "@a.com"));
+            EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, true, false, users, 0.01);
+            emailBloomFilter.load();
+
+            // when
+            int probes = 100_000;
+            for (int i = 0; i < probes; i++) {
+                if (emailBloomFilter.mightContain("unknown" + i + "@b.com")) {
+                    emailBloomFilter.recordFalsePositive();
+                }
+            }
+
+            // then
+            assertTrue(emailBloomFilter.getMeasuredFalsePositiveRate() < 0.02);
+            assertTrue(emailBloomFilter.getEstimatedFalsePositiveRate() < 0.02);
+        }
+
+        @Test
+        @DisplayName("비활성화하면 로딩하지 않는다.")
+        void test4() {
+            // given
+            EmailBloomFilter emailBloomFilter = new EmailBloomFilter(userRepository, false, false, 1000, 0.01);
+
+            // when
+            emailBloomFilter.load();
+
+            // then
+            assertFalse(emailBloomFilter.isLoaded());
+            assertTrue(emailBloomFilter.mightContain("a@a.com"));
+        }
+    }
+}
@@ -1,25 +1,70 @@
 package org.example.expert.domain.comment.service;
 
+import org.example.expert.domain.comment.dto.response.CommentBulkDeleteResponse;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.search.service.TodoSearchIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentAdminServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
-    @InjectMocks
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     CommentAdminService commentAdminService;
 
+    @BeforeEach
+    void setUp() {
+        commentAdminService = new CommentAdminService(commentRepository, todoRepository, todoSearchIndex, changeEventPublisher, transactionManager, 2);
+    }
+
+    private static CommentRepository.TodoCommentCount todoCommentCount(long todoId, long count) {
+        return new CommentRepository.TodoCommentCount() {
+            @Override
+            public Long getTodoId() {
+                return todoId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+
     @Nested
     @DisplayName("CommentAdminService::deleteComment()")
     class Class1 {
@@ -29,12 +74,92 @@ public class CommentAdminServiceTest {
         void test1() {
             // given
             Long commentId = 1L;
+            Long todoId = 10L;
+            given(commentRepository.findTodoIdById(commentId)).willReturn(Optional.of(todoId));
 
             // when
             commentAdminService.deleteComment(commentId);
 
             // then
-            verify(commentRepository, times(1)).deleteById(commentId);
+            verify(commentRepository, times(1)).deleteByIds(List.of(commentId));
+            verify(commentRepository, never()).deleteById(any());
+            verify(todoSearchIndex, times(1)).deleteComment(commentId);
+            verify(todoRepository, times(1)).addCommentCount(todoId, -1);
+            verify(changeEventPublisher, times(1)).publish(EventAggregate.COMMENT, commentId, todoId, ChangeType.DELETED, null);
+        }
+
+        @Test
+        @DisplayName("댓글이 없으면 아무것도 지우지 않는다.")
+        void test2() {
+            // given
+            given(commentRepository.findTodoIdById(1L)).willReturn(Optional.empty());
+
+            // when
+            commentAdminService.deleteComment(1L);
+
+            // then
+            verify(commentRepository, never()).deleteByIds(anyList());
+            verifyNoInteractions(todoRepository, todoSearchIndex);
+        }
+    }
+
+    @Nested
+    @DisplayName("CommentAdminService::deleteComments()")
+    class Class2 {
+
+        @Test
+        @DisplayName("id 목록을 chunk 크기로 나눠 지우고 지운 개수를 합산한다.")
+        void test1() {
+            // given
+            given(commentRepository.deleteByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size() - 1);
+
+            // when
+            CommentBulkDeleteResponse response = commentAdminService.deleteComments(List.of(1L, 2L, 3L, 4L, 5L));
+
+            // then
+            verify(commentRepository).deleteByIds(List.of(1L, 2L));
+            verify(commentRepository).deleteByIds(List.of(3L, 4L));
+            verify(commentRepository).deleteByIds(List.of(5L));
+            assertEquals(2, response.getDeletedCount());
+        }
+
+        @Test
+        @DisplayName("지운 댓글이 있는 chunk 마다 변경 이벤트를 하나씩 남긴다.")
+        void test3() {
+            // given
+            given(commentRepository.deleteByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size() - 1);
+            given(commentRepository.countByIdInGroupByTodoId(List.of(1L, 2L))).willReturn(List.of(todoCommentCount(10L, 1), todoCommentCount(20L, 1)));
+            given(commentRepository.countByIdInGroupByTodoId(List.of(3L))).willReturn(List.of(todoCommentCount(10L, 1)));
+
+            // when
+            commentAdminService.deleteComments(List.of(1L, 2L, 3L));
+
+            // then
+            verify(changeEventPublisher, times(1)).publish(EventAggregate.COMMENT, null, null, ChangeType.DELETED,
+                    Map.of("commentIds", List.of(1L, 2L), "todoIds", List.of(10L, 20L)));
+            verify(changeEventPublisher, never()).publish(eq(EventAggregate.COMMENT), isNull(), eq(10L), eq(ChangeType.DELETED), any());
+        }
+
+        @Test
+        @DisplayName("한 일정의 댓글만 지운 chunk 는 이벤트에 일정 id 를 채운다.")
+        void test4() {
+            // given
+            given(commentRepository.deleteByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+            given(commentRepository.countByIdInGroupByTodoId(List.of(1L, 2L))).willReturn(List.of(todoCommentCount(10L, 2)));
+
+            // when
+            commentAdminService.deleteComments(List.of(1L, 2L));
+
+            // then
+            verify(changeEventPublisher).publish(EventAggregate.COMMENT, null, 10L, ChangeType.DELETED,
+                    Map.of("commentIds", List.of(1L, 2L), "todoIds", List.of(10L)));
+        }
+
+        @Test
+        @DisplayName("id 목록이 비어 있으면 예외가 발생한다.")
+        void test2() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> commentAdminService.deleteComments(List.of()));
         }
     }
 }
@@ -7,6 +7,8 @@ import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.search.service.TodoSearchIndex;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.entity.User;
@@ -19,13 +21,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -36,6 +43,12 @@ class CommentServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -80,28 +93,48 @@ class CommentServiceTest {
 
             // then
             assertNotNull(result);
+            verify(todoRepository, times(1)).addCommentCount(todoId, 1);
         }
     }
 
     @Nested
-    @DisplayName("CommentService::getComments()")
+    @DisplayName("CommentService::forEachComment()")
     class Class2 {
         @Test
         @DisplayName("댓글이 정상적으로 조회된다.")
         public void test1() {
             // given
             long todoId = 1;
-            CommentSaveRequest request = new CommentSaveRequest("contents");
-            AuthUser authUser = new AuthUser(1L, "email", UserRole.USER);
-            User user = User.fromAuthUser(authUser);
-            Todo todo = new Todo("title", "title", "contents", user);
-            Comment comment = new Comment(request.getContents(), user, todo);
+            CommentResponse comment = new CommentResponse(1L, "contents", 1L, "email");
+            given(commentRepository.findNextByTodoId(eq(todoId), eq(0L), any())).willReturn(List.of(comment));
 
-            List<Comment> commentList = List.of(comment);
+            // when
+            List<CommentResponse> commentsResponseList = new ArrayList<>();
+            commentService.forEachComment(todoId, commentsResponseList::add);
 
-            given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
-            List<CommentResponse> commentsResponseList = commentService.getComments(todoId);
-            assertFalse(commentsResponseList.isEmpty());
+            // then
+            assertEquals(List.of(comment), commentsResponseList);
+        }
+
+        @Test
+        @DisplayName("한 묶음이 가득 차면 마지막 댓글 id 다음부터 이어서 읽는다.")
+        public void test2() {
+            // given
+            long todoId = 1;
+            List<CommentResponse> first = LongStream.rangeClosed(1, 500)
+                    .mapToObj(id -> new CommentResponse(id, "contents", 1L, "email"))
+                    .toList();
+            CommentResponse last = new CommentResponse(501L, "contents", 1L, "email");
+            given(commentRepository.findNextByTodoId(eq(todoId), eq(0L), any())).willReturn(first);
+            given(commentRepository.findNextByTodoId(eq(todoId), eq(500L), any())).willReturn(List.of(last));
+
+            // when
+            List<CommentResponse> commentsResponseList = new ArrayList<>();
+            commentService.forEachComment(todoId, commentsResponseList::add);
+
+            // then
+            assertEquals(501, commentsResponseList.size());
+            assertEquals(last, commentsResponseList.get(500));
         }
     }
 }
\ No newline at end of file
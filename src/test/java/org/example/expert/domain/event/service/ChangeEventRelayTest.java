@@ -0,0 +1,176 @@
+package org.example.expert.domain.event.service;
+
+import org.example.expert.domain.event.dto.response.ChangeEventResponse;
+import org.example.expert.domain.event.entity.ChangeEvent;
+import org.example.expert.domain.event.enums.ChangeType;
+import org.example.expert.domain.event.enums.EventAggregate;
+import org.example.expert.domain.event.repository.ChangeEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeEventRelayTest {
+
+    @Mock
+    ChangeEventRepository changeEventRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    private ChangeEventRelay relay(long gapTimeoutMillis) {
+        ChangeEventRelay relay = new ChangeEventRelay(changeEventRepository, transactionManager, 100, 3, gapTimeoutMillis, 60_000, 1000, 7);
+        relay.init();
+        return relay;
+    }
+
+    private static List<ChangeEvent> events(long... ids) {
+        return Arrays.stream(ids).mapToObj(id -> {
+            ChangeEvent event = new ChangeEvent(EventAggregate.TODO, id, id, ChangeType.UPDATED, "{}");
+            ReflectionTestUtils.setField(event, "id", id);
+            return event;
+        }).toList();
+    }
+
+    private static List<Long> ids(List<ChangeEventResponse> events) {
+        return events.stream().map(ChangeEventResponse::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("ChangeEventRelay::poll()")
+    class Class1 {
+
+        @Test
+        @DisplayName("앞 번호가 비어 있으면 그 뒤 이벤트는 아직 확정하지 않는다.")
+        void test1() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(0L);
+            given(changeEventRepository.findAfter(eq(0L), any(Pageable.class))).willReturn(events(1, 2, 4));
+            ChangeEventRelay relay = relay(60_000);
+
+            // when
+            relay.poll();
+
+            // then
+            assertEquals(2, relay.getWatermark());
+            assertEquals(List.of(1L, 2L), ids(relay.eventsAfter(0)));
+        }
+
+        @Test
+        @DisplayName("비어 있는 번호가 gap-timeout 동안 채워지지 않으면 건너뛴다.")
+        void test2() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(0L);
+            given(changeEventRepository.findAfter(eq(0L), any(Pageable.class))).willReturn(events(1, 2, 4));
+            ChangeEventRelay relay = relay(0);
+
+            // when
+            relay.poll();
+
+            // then
+            assertEquals(4, relay.getWatermark());
+            assertEquals(List.of(1L, 2L, 4L), ids(relay.eventsAfter(0)));
+        }
+
+        @Test
+        @DisplayName("건너뛴 번호가 뒤늦게 커밋되면 새 id 로 옮겨 끝에서 다시 보낸다.")
+        void test3() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(0L);
+            given(changeEventRepository.findAfter(eq(0L), any(Pageable.class))).willReturn(events(1, 2, 4));
+            ChangeEventRelay relay = relay(0);
+            relay.poll();
+
+            given(changeEventRepository.findAllById(Set.of(3L))).willReturn(events(3));
+            given(changeEventRepository.deleteByIdIfPresent(3L)).willReturn(1);
+            given(changeEventRepository.save(any(ChangeEvent.class))).willReturn(events(5).get(0));
+            given(changeEventRepository.findAfter(eq(4L), any(Pageable.class))).willReturn(events(5));
+
+            // when
+            relay.poll();
+
+            // then
+            verify(changeEventRepository).save(any(ChangeEvent.class));
+            assertEquals(5, relay.getWatermark());
+            assertEquals(List.of(5L), ids(relay.eventsAfter(4)));
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 먼저 옮긴 이벤트는 다시 저장하지 않는다.")
+        void test4() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(0L);
+            given(changeEventRepository.findAfter(eq(0L), any(Pageable.class))).willReturn(events(1, 2, 4));
+            ChangeEventRelay relay = relay(0);
+            relay.poll();
+
+            given(changeEventRepository.findAllById(Set.of(3L))).willReturn(events(3));
+            given(changeEventRepository.deleteByIdIfPresent(3L)).willReturn(0);
+
+            // when
+            relay.poll();
+
+            // then
+            verify(changeEventRepository, never()).save(any(ChangeEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("ChangeEventRelay::eventsAfter()")
+    class Class2 {
+
+        @Test
+        @DisplayName("버퍼 안의 오프셋은 테이블을 읽지 않고 버퍼에서 이어서 돌려준다.")
+        void test1() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(10L);
+            given(changeEventRepository.findAfter(eq(10L), any(Pageable.class))).willReturn(events(11, 12, 13));
+            ChangeEventRelay relay = relay(0);
+            relay.poll();
+
+            // when
+            List<ChangeEventResponse> events = relay.eventsAfter(11);
+
+            // then
+            assertEquals(List.of(12L, 13L), ids(events));
+            assertTrue(relay.eventsAfter(13).isEmpty());
+            verify(changeEventRepository, never()).findBetween(anyLong(), anyLong(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("버퍼보다 오래된 오프셋은 확정된 범위까지만 테이블에서 읽는다.")
+        void test2() {
+            // given
+            given(changeEventRepository.findMaxId()).willReturn(10L);
+            given(changeEventRepository.findAfter(eq(10L), any(Pageable.class))).willReturn(events(11, 12, 13, 14));
+            given(changeEventRepository.findBetween(eq(5L), eq(14L), any(Pageable.class))).willReturn(events(6, 7));
+            ChangeEventRelay relay = relay(0);
+            relay.poll();
+
+            // when
+            List<ChangeEventResponse> events = relay.eventsAfter(5);
+
+            // then
+            assertEquals(List.of(6L, 7L), ids(events));
+        }
+    }
+}
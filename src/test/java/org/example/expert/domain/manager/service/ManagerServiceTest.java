@@ -2,6 +2,7 @@ package org.example.expert.domain.manager.service;
 
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -21,11 +22,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,21 +42,23 @@ class ManagerServiceTest {
     private UserRepository userRepository;
     @Mock
     private TodoRepository todoRepository;
+    @Mock
+    private ChangeEventPublisher changeEventPublisher;
     @InjectMocks
     private ManagerService managerService;
 
     @Nested
-    @DisplayName("ManagerService::getManagers()")
+    @DisplayName("ManagerService::getManagersETag(), forEachManager()")
     class Class1 {
         @Test
         @DisplayName("manager 목록 조회 시 Todo가 없다면 InvalidRequestException 에러를 던진다")
         public void test1() {
             // given
             long todoId = 1L;
-            given(todoRepository.findById(todoId)).willReturn(Optional.empty());
+            given(todoRepository.findVersionsById(todoId)).willReturn(Optional.empty());
 
             // when & then
-            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagers(todoId));
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> managerService.getManagersETag(todoId));
             assertEquals("Manager not found", exception.getMessage());
         }
 
@@ -62,23 +67,17 @@ class ManagerServiceTest {
         public void test2() {
             // given
             long todoId = 1L;
-            User user = new User("user1@example.com", "password", UserRole.USER);
-            Todo todo = new Todo("Title", "Contents", "Sunny", user);
-            ReflectionTestUtils.setField(todo, "id", todoId);
-
-            Manager mockManager = new Manager(todo.getUser(), todo);
-            List<Manager> managerList = List.of(mockManager);
-
-            given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-            given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+            ManagerResponse manager = new ManagerResponse(1L, 1L, "user1@example.com");
+            given(managerRepository.findNextByTodoId(eq(todoId), eq(0L), any())).willReturn(List.of(manager));
 
             // when
-            List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
+            List<ManagerResponse> managerResponses = new ArrayList<>();
+            managerService.forEachManager(todoId, managerResponses::add);
 
             // then
             assertEquals(1, managerResponses.size());
-            assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-            assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+            assertEquals(manager.getId(), managerResponses.get(0).getId());
+            assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
         }
     }
 
@@ -162,6 +161,7 @@ class ManagerServiceTest {
             assertNotNull(response);
             assertEquals(managerUser.getId(), response.getUser().getId());
             assertEquals(managerUser.getEmail(), response.getUser().getEmail());
+            verify(todoRepository, times(1)).addManagerCount(todo.getId(), 1);
         }
 
         @Test
@@ -331,6 +331,7 @@ class ManagerServiceTest {
 
             // then
             verify(managerRepository, times(1)).delete(manager);
+            verify(todoRepository, times(1)).addManagerCount(todo.getId(), -1);
         }
     }
 }
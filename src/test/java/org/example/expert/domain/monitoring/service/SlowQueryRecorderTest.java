@@ -0,0 +1,197 @@
+package org.example.expert.domain.monitoring.service;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.monitoring.dto.response.SlowQueryResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlowQueryRecorderTest {
+
+    DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    SlowQueryRecorder slowQueryRecorder = new SlowQueryRecorder(dataSource, 100, 2, 2, true, true, 60);
+
+    @AfterEach
+    void cleanUp() {
+        slowQueryRecorder.shutdown();
+    }
+
+    @Nested
+    @DisplayName("SlowQueryRecorder::record()")
+    class Class1 {
+        @Test
+        @DisplayName("기준치를 넘은 실행만 느린 쿼리로 판단한다.")
+        void test1() {
+            assertFalse(slowQueryRecorder.record("select 1", 99_000_000L));
+            assertTrue(slowQueryRecorder.record("select 1", 100_000_000L));
+        }
+
+        @Test
+        @DisplayName("기록하는 SQL 종류 수를 넘으면 새 SQL 은 한 줄에 합산한다.")
+        void test2() {
+            // when
+            slowQueryRecorder.record("select 1", 1_000_000L);
+            slowQueryRecorder.record("select 2", 1_000_000L);
+            slowQueryRecorder.record("select 3", 3_000_000L);
+            slowQueryRecorder.record("select 4", 2_000_000L);
+
+            // then
+            List<SlowQueryResponse> slowestQueries = slowQueryRecorder.getSlowestQueries(10);
+            assertEquals(3, slowestQueries.size());
+            assertEquals(SlowQueryRecorder.OTHER_QUERIES, slowestQueries.get(0).getSql());
+            assertEquals(2, slowestQueries.get(0).getCount());
+        }
+
+        @Test
+        @DisplayName("IN 목록은 길이와 관계없이 같은 SQL 로 기록한다.")
+        void test3() {
+            // when
+            slowQueryRecorder.record("select * from todos where id in (?,?) and user_id = ?", 1_000_000L);
+            slowQueryRecorder.record("select * from todos where id in (?, ?, ?) and user_id = ?", 1_000_000L);
+
+            // then
+            List<SlowQueryResponse> slowestQueries = slowQueryRecorder.getSlowestQueries(10);
+            assertEquals(1, slowestQueries.size());
+            assertEquals("select * from todos where id in (?, ...) and user_id = ?", slowestQueries.get(0).getSql());
+            assertEquals(2, slowestQueries.get(0).getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowQueryRecorder::getSlowestQueries()")
+    class Class2 {
+        @Test
+        @DisplayName("최대 실행 시간이 긴 순서로 통계를 반환한다.")
+        void test1() {
+            // given
+            for (int i = 0; i < 99; i++) {
+                slowQueryRecorder.record("select fast", 1_000_000L);
+            }
+            slowQueryRecorder.record("select fast", 3_000_000L);
+            slowQueryRecorder.record("select slow", 50_000_000L);
+
+            // when
+            List<SlowQueryResponse> slowestQueries = slowQueryRecorder.getSlowestQueries(10);
+
+            // then
+            assertEquals("select slow", slowestQueries.get(0).getSql());
+            SlowQueryResponse fast = slowestQueries.get(1);
+            assertEquals(100, fast.getCount());
+            assertEquals(3.0, fast.getMaxMillis());
+            assertTrue(fast.getP50Millis() >= 1.0 && fast.getP50Millis() <= 2.048);
+        }
+
+        @Test
+        @DisplayName("size 가 범위를 벗어나면 예외가 발생한다.")
+        void test2() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> slowQueryRecorder.getSlowestQueries(-1));
+            assertEquals("size 는 1 이상 100 이하여야 합니다.", exception.getMessage());
+            assertThrows(InvalidRequestException.class, () -> slowQueryRecorder.getSlowestQueries(0));
+            assertThrows(InvalidRequestException.class, () -> slowQueryRecorder.getSlowestQueries(101));
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowQueryRecorder::sample()")
+    class Class3 {
+        @Test
+        @DisplayName("느린 쿼리의 파라미터와 실행 계획을 보관한다.")
+        void test1() throws InterruptedException {
+            // given
+            new JdbcTemplate(dataSource).execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+            String sql = "select title from todos where id = ?";
+
+            // when
+            slowQueryRecorder.record(sql, 200_000_000L);
+            slowQueryRecorder.sample(sql, 200_000_000L, List.of(1L));
+
+            // then
+            SlowQueryResponse response = slowQueryRecorder.getSlowestQueries(1).get(0);
+            assertEquals(List.of("1"), response.getSamples().get(0).getParameters());
+            for (int i = 0; i < 50 && slowQueryRecorder.getSlowestQueries(1).get(0).getSamples().get(0).getPlan() == null; i++) {
+                Thread.sleep(100);
+            }
+            String plan = slowQueryRecorder.getSlowestQueries(1).get(0).getSamples().get(0).getPlan();
+            assertNotNull(plan);
+            assertTrue(plan.toUpperCase().contains("TODOS"));
+        }
+
+        @Test
+        @DisplayName("보관하는 표본 수는 제한된다.")
+        void test2() {
+            // given
+            slowQueryRecorder.record("update todos set title = ?", 200_000_000L);
+
+            // when
+            for (int i = 0; i < 3; i++) {
+                slowQueryRecorder.sample("update todos set title = ?", 200_000_000L, List.of("title" + i));
+            }
+
+            // then
+            SlowQueryResponse response = slowQueryRecorder.getSlowestQueries(1).get(0);
+            assertEquals(2, response.getSamples().size());
+            assertEquals(List.of("title2"), response.getSamples().get(1).getParameters());
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowQueryRecorder::normalize()")
+    class Class4 {
+        @Test
+        @DisplayName("자리표시자 목록이 없는 SQL 은 같은 문자열을 그대로 돌려준다.")
+        void test1() {
+            String sql = "update todos set title = ?, contents = ? where id = ?";
+            assertSame(sql, SlowQueryRecorder.normalize(sql));
+        }
+
+        @Test
+        @DisplayName("여러 목록을 각각 하나로 줄인다.")
+        void test2() {
+            assertEquals("insert into t (a,b) values (?, ...),(?, ...)",
+                    SlowQueryRecorder.normalize("insert into t (a,b) values (?,?),(?,?)"));
+        }
+    }
+
+    @Nested
+    @DisplayName("SlowQueryRecorder::sample() - capture-parameters 꺼짐")
+    class Class5 {
+
+        SlowQueryRecorder maskingRecorder = new SlowQueryRecorder(dataSource, 100, 2, 2, false, true, 60);
+
+        @AfterEach
+        void cleanUp() {
+            maskingRecorder.shutdown();
+        }
+
+        @Test
+        @DisplayName("파라미터 값은 가리고 개수만 보관한다.")
+        void test1() throws InterruptedException {
+            // given
+            new JdbcTemplate(dataSource).execute("CREATE TABLE users (id BIGINT PRIMARY KEY, email VARCHAR(255), password VARCHAR(255))");
+            String sql = "select id from users where email = ? and password = ?";
+
+            // when
+            maskingRecorder.record(sql, 200_000_000L);
+            maskingRecorder.sample(sql, 200_000_000L, List.of("secret@a.com", "$2a$04$hash"));
+
+            // then
+            SlowQueryResponse response = maskingRecorder.getSlowestQueries(1).get(0);
+            assertEquals(List.of(SlowQueryRecorder.MASKED_PARAMETER, SlowQueryRecorder.MASKED_PARAMETER), response.getSamples().get(0).getParameters());
+            for (int i = 0; i < 50 && maskingRecorder.getSlowestQueries(1).get(0).getSamples().get(0).getPlan() == null; i++) {
+                Thread.sleep(100);
+            }
+            String plan = maskingRecorder.getSlowestQueries(1).get(0).getSamples().get(0).getPlan();
+            assertNotNull(plan);
+            assertFalse(plan.contains("secret@a.com"));
+        }
+    }
+}
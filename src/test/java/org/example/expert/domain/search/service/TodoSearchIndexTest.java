@@ -0,0 +1,129 @@
+package org.example.expert.domain.search.service;
+
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.search.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class TodoSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    TodoSearchIndex todoSearchIndex;
+    User user = new User("a@a.com", "password", UserRole.USER);
+
+    @BeforeEach
+    void prepare() throws IOException {
+        todoSearchIndex = new TodoSearchIndex(mock(JdbcTemplate.class), indexDir.toString(), false);
+        todoSearchIndex.indexTodo(todo(1L, "spring study", "read the reference docs"));
+        todoSearchIndex.indexTodo(todo(2L, "grocery", "buy milk and eggs"));
+        Todo weekend = todo(3L, "weekend", "clean the room");
+        todoSearchIndex.indexTodo(weekend);
+        Comment comment = new Comment("also study spring security", user, weekend);
+        ReflectionTestUtils.setField(comment, "id", 10L);
+        todoSearchIndex.indexComment(comment);
+        todoSearchIndex.refresh();
+    }
+
+    private Todo todo(long id, String title, String contents) {
+        Todo todo = new Todo(title, contents, "Sunny", user);
+        ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
+    }
+
+    @AfterEach
+    void cleanUp() throws IOException {
+        todoSearchIndex.close();
+    }
+
+    @Nested
+    @DisplayName("TodoSearchIndex::search()")
+    class Class1 {
+        @Test
+        @DisplayName("제목이 일치하는 일정이 댓글만 일치하는 일정보다 앞선다.")
+        void test1() {
+            // when
+            List<TodoSearchResponse> results = todoSearchIndex.search("spring study", 10);
+
+            // then
+            assertEquals(2, results.size());
+            assertEquals(1L, results.get(0).getId());
+            assertEquals(3L, results.get(1).getId());
+            assertEquals("weekend", results.get(1).getTitle());
+        }
+
+        @Test
+        @DisplayName("모든 검색어를 포함한 일정만 찾는다.")
+        void test2() {
+            // when
+            List<TodoSearchResponse> results = todoSearchIndex.search("milk eggs", 10);
+
+            // then
+            assertEquals(1, results.size());
+            assertEquals(2L, results.get(0).getId());
+            assertTrue(todoSearchIndex.search("milk spring", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("size 가 범위를 벗어나면 예외가 발생한다.")
+        void test3() {
+            assertThrows(InvalidRequestException.class, () -> todoSearchIndex.search("spring", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoSearchIndex 변경 반영")
+    class Class2 {
+        @Test
+        @DisplayName("댓글을 지우면 댓글로는 더 이상 찾을 수 없다.")
+        void test1() throws IOException {
+            // when
+            todoSearchIndex.deleteComment(10L);
+            todoSearchIndex.refresh();
+
+            // then
+            assertTrue(todoSearchIndex.search("security", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("일정을 지우면 댓글 문서도 함께 지워진다.")
+        void test2() throws IOException {
+            // when
+            todoSearchIndex.deleteTodo(3L);
+            todoSearchIndex.refresh();
+
+            // then
+            assertTrue(todoSearchIndex.search("security", 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("일정을 수정하면 새 내용으로 찾을 수 있다.")
+        void test3() throws IOException {
+            // when
+            todoSearchIndex.indexTodo(todo(2L, "grocery", "buy bread"));
+            todoSearchIndex.refresh();
+
+            // then
+            assertTrue(todoSearchIndex.search("milk", 10).isEmpty());
+            assertEquals(2L, todoSearchIndex.search("bread", 10).get(0).getId());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoCounterReconciler.class})
+@TestPropertySource(properties = "todo.counter.reconcile-chunk-size=2")
+public class TodoCounterReconcilerTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    TodoCounterReconciler todoCounterReconciler;
+
+    @Nested
+    @DisplayName("TodoCounterReconciler::reconcile()")
+    class Class1 {
+        @Test
+        @DisplayName("카운터를 거치지 않고 추가된 댓글 수를 맞추고, 이미 맞는 일정은 건드리지 않는다.")
+        void test1() {
+            // given
+            User user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+            Todo drifted = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+            for (int i = 0; i < 3; i++) {
+                entityManager.persist(new Comment("comment", user, drifted));
+            }
+            Todo accurate = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+            Todo empty = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+            entityManager.flush();
+
+            // when
+            long fixed = todoCounterReconciler.reconcile();
+            entityManager.clear();
+
+            // then
+            assertEquals(1, fixed);
+            assertEquals(3, entityManager.find(Todo.class, drifted.getId()).getCommentCount());
+            assertEquals(1, entityManager.find(Todo.class, accurate.getId()).getManagerCount());
+            assertEquals(0, entityManager.find(Todo.class, empty.getId()).getCommentCount());
+        }
+
+        @Test
+        @DisplayName("원자적 증감은 엔티티 변경 감지로 덮어써지지 않는다.")
+        void test2() {
+            // given
+            User user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+            Todo todo = entityManager.persist(new Todo("title", "contents", "Sunny", user));
+            entityManager.flush();
+
+            // when
+            todoRepository.addCommentCount(todo.getId(), 1);
+            todo.update("changed", "contents");
+            entityManager.flush();
+            entityManager.clear();
+
+            // then
+            Todo found = entityManager.find(Todo.class, todo.getId());
+            assertEquals("changed", found.getTitle());
+            assertEquals(1, found.getCommentCount());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({PersistenceConfig.class, TodoPurger.class})
+@TestPropertySource(properties = {"todo.purge.chunk-size=2", "todo.purge.pause-ms=0"})
+public class TodoPurgerTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    TodoPurger todoPurger;
+
+    User user;
+    Todo deleted;
+    Todo alive;
+
+    @BeforeEach
+    void prepare() {
+        user = entityManager.persist(new User("a@a.com", "password", UserRole.USER));
+        deleted = entityManager.persist(new Todo("deleted", "contents", "Sunny", user));
+        alive = entityManager.persist(new Todo("alive", "contents", "Sunny", user));
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new Comment("comment", user, deleted));
+        }
+        entityManager.persist(new Comment("comment", user, alive));
+        entityManager.persist(new Manager(user, deleted));
+        deleted.delete();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long count(String entity, Todo todo) {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(e) FROM " + entity + " e WHERE e.todo.id = :todoId", Long.class)
+                .setParameter("todoId", todo.getId())
+                .getSingleResult();
+    }
+
+    @Nested
+    @DisplayName("Todo::delete()")
+    class Class1 {
+        @Test
+        @DisplayName("삭제된 일정은 조회되지 않지만 행은 남아 있다.")
+        void test1() {
+            // when & then
+            assertTrue(todoRepository.findById(deleted.getId()).isEmpty());
+            assertEquals(List.of(deleted.getId()), todoRepository.findDeletedIds(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoPurger::purge()")
+    class Class2 {
+        @Test
+        @DisplayName("삭제된 일정의 댓글과 담당자를 나눠 지운 뒤 일정 행을 지운다.")
+        void test1() {
+            // when
+            todoPurger.purge();
+            entityManager.clear();
+
+            // then
+            assertEquals(0, count("Comment", deleted));
+            assertEquals(0, count("Manager", deleted));
+            assertTrue(todoRepository.findDeletedIds(10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("삭제되지 않은 일정은 건드리지 않는다.")
+        void test2() {
+            // when
+            todoPurger.purge();
+            entityManager.clear();
+
+            // then
+            assertTrue(todoRepository.findById(alive.getId()).isPresent());
+            assertEquals(1, count("Comment", alive));
+            assertEquals(1, count("Manager", alive));
+        }
+
+        @Test
+        @DisplayName("한 일정을 지우다 실패해도 나머지 일정은 계속 정리한다.")
+        void test3() {
+            // given
+            TodoRepository todoRepository = mock(TodoRepository.class);
+            CommentRepository commentRepository = mock(CommentRepository.class);
+            ManagerRepository managerRepository = mock(ManagerRepository.class);
+            TodoPurger purger = new TodoPurger(todoRepository, commentRepository, managerRepository, 10, 2, 0);
+            given(todoRepository.findDeletedIds(10)).willReturn(List.of(1L, 2L));
+            given(commentRepository.findIdsByTodoId(eq(1L), any(Pageable.class)))
+                    .willThrow(new DataAccessResourceFailureException("lock timeout"));
+            given(commentRepository.findIdsByTodoId(eq(2L), any(Pageable.class))).willReturn(List.of());
+            given(managerRepository.findIdsByTodoId(eq(2L), any(Pageable.class))).willReturn(List.of());
+
+            // when
+            purger.purge();
+
+            // then
+            verify(todoRepository, never()).purgeDeleted(1L);
+            verify(todoRepository).purgeDeleted(2L);
+        }
+    }
+}
@@ -3,7 +3,12 @@ package org.example.expert.domain.todo.service;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.PreconditionFailedException;
+import org.example.expert.domain.event.service.ChangeEventPublisher;
+import org.example.expert.domain.search.service.TodoSearchIndex;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.request.TodoUpdateRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -19,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
@@ -28,6 +34,9 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class TodoServiceTest {
@@ -37,6 +46,12 @@ public class TodoServiceTest {
     @Mock
     WeatherClient weatherClient;
 
+    @Mock
+    TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    ChangeEventPublisher changeEventPublisher;
+
     @InjectMocks
     TodoService todoService;
 
@@ -101,6 +116,27 @@ public class TodoServiceTest {
                 assertEquals(todoResponse.getUser().getEmail(), user.getEmail());
             }
         }
+
+        @Test
+        @DisplayName("page나 size가 1보다 작으면 예외가 발생한다.")
+        void test2() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodos(1, 0));
+            assertThrows(InvalidRequestException.class, () -> todoService.getTodos(0, 10));
+        }
+
+        @Test
+        @DisplayName("size 에 상한을 두지 않는다.")
+        void test3() {
+            // given
+            given(todoRepository.findAllByOrderByModifiedAtDesc(any())).willReturn(Page.empty());
+
+            // when
+            todoService.getTodos(1, 500);
+
+            // then
+            verify(todoRepository).findAllByOrderByModifiedAtDesc(PageRequest.of(0, 500));
+        }
     }
 
     @Nested
@@ -139,4 +175,99 @@ public class TodoServiceTest {
             assertEquals(todoResponse.getUser().getEmail(), todo.getUser().getEmail());
         }
     }
+
+    @Nested
+    @DisplayName("TodoService::scrollTodos()")
+    class Class4 {
+        @Test
+        @DisplayName("size가 범위를 벗어나면 예외가 발생한다.")
+        void test1() {
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> todoService.scrollTodos(new TodoSearchCondition(), null, 101));
+        }
+
+        @Test
+        @DisplayName("커서 형식이 잘못되면 예외가 발생한다.")
+        void test2() {
+            // when & then
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> todoService.scrollTodos(new TodoSearchCondition(), "not-a-cursor", 10));
+            assertEquals("잘못된 커서입니다.", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoService::deleteTodo()")
+    class Class5 {
+        @Test
+        @DisplayName("일정을 만든 유저가 아니면 예외가 발생한다.")
+        void test1() {
+            // given
+            User owner = User.fromAuthUser(new AuthUser(1L, "a@a.com", UserRole.USER));
+            Todo todo = new Todo("제목", "컨텐츠", "Sunny", owner);
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+            AuthUser other = new AuthUser(2L, "b@b.com", UserRole.USER);
+
+            // when & then
+            assertThrows(InvalidRequestException.class, () -> todoService.deleteTodo(other, 1L, null));
+            assertNull(todo.getDeletedAt());
+        }
+
+        @Test
+        @DisplayName("삭제 표시만 하고 검색 색인에서 제외한다.")
+        void test2() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            Todo todo = new Todo("제목", "컨텐츠", "Sunny", User.fromAuthUser(authUser));
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when
+            todoService.deleteTodo(authUser, 1L, 0L);
+
+            // then
+            assertNotNull(todo.getDeletedAt());
+            verify(todoRepository, never()).delete(any(Todo.class));
+            verify(todoSearchIndex, times(1)).deleteTodo(1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("TodoService::updateTodo()")
+    class Class6 {
+        @Test
+        @DisplayName("If-Match 버전이 현재 버전과 다르면 예외가 발생하고 수정하지 않는다.")
+        void test1() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            Todo todo = new Todo("제목", "컨텐츠", "Sunny", User.fromAuthUser(authUser));
+            ReflectionTestUtils.setField(todo, "version", 3L);
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when & then
+            assertThrows(PreconditionFailedException.class,
+                    () -> todoService.updateTodo(authUser, 1L, 2L, new TodoUpdateRequest("새 제목", null)));
+            assertEquals("제목", todo.getTitle());
+            verify(todoSearchIndex, never()).indexTodo(any());
+        }
+
+        @Test
+        @DisplayName("보낸 값만 수정하고 검색 색인을 갱신한다.")
+        void test2() {
+            // given
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            Todo todo = new Todo("제목", "컨텐츠", "Sunny", User.fromAuthUser(authUser));
+            ReflectionTestUtils.setField(todo, "id", 1L);
+            ReflectionTestUtils.setField(todo, "version", 3L);
+            given(todoRepository.findById(1L)).willReturn(Optional.of(todo));
+
+            // when
+            TodoResponse response = todoService.updateTodo(authUser, 1L, 3L, new TodoUpdateRequest("새 제목", null));
+
+            // then
+            assertEquals("새 제목", response.getTitle());
+            assertEquals("컨텐츠", response.getContents());
+            verify(todoRepository, times(1)).flush();
+            verify(todoSearchIndex, times(1)).indexTodo(todo);
+        }
+    }
 }
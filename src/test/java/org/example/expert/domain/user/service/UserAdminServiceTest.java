@@ -1,8 +1,8 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.config.UserRoleVersionTable;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
-import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +12,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
-
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class UserAdminServiceTest {
@@ -28,6 +27,9 @@ public class UserAdminServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    UserRoleVersionTable userRoleVersionTable;
+
     @Nested
     @DisplayName("UserAdminService::changeUserRole()")
     class Class1 {
@@ -37,7 +39,8 @@ public class UserAdminServiceTest {
             // given
             Long userId = 1L;
             UserRoleChangeRequest userRoleChangeRequest = new UserRoleChangeRequest(UserRole.USER.name());
-            given(userRepository.findById(userId)).willReturn(Optional.empty());
+            given(userRepository.updateRole(eq(userId), eq(UserRole.USER), any())).willReturn(0);
+            given(userRepository.existsById(userId)).willReturn(false);
 
             // when & then
             InvalidRequestException invalidRequestException = assertThrows(InvalidRequestException.class, () -> userAdminService.changeUserRole(userId, userRoleChangeRequest));
@@ -45,20 +48,35 @@ public class UserAdminServiceTest {
         }
 
         @Test
-        @DisplayName("정상적으로 유저의 role이 변경된다.")
+        @DisplayName("정상적으로 유저의 role이 변경되고 올라간 버전이 기록된다.")
         void test2() {
             // given
             Long userId = 1L;
-            User user = new User("a@a.com", "password", UserRole.USER);
-            ReflectionTestUtils.setField(user, "id", userId);
             UserRoleChangeRequest userRoleChangeRequest = new UserRoleChangeRequest(UserRole.ADMIN.name());
-            given(userRepository.findById(userId)).willReturn(Optional.of(user));
+            given(userRepository.updateRole(eq(userId), eq(UserRole.ADMIN), any())).willReturn(1);
+            given(userRepository.findRoleVersionById(userId)).willReturn(3);
+
+            // when
+            userAdminService.changeUserRole(userId, userRoleChangeRequest);
+
+            // then
+            verify(userRoleVersionTable, times(1)).update(userId, 3);
+        }
+
+        @Test
+        @DisplayName("이미 같은 role이면 버전을 기록하지 않는다.")
+        void test3() {
+            // given
+            Long userId = 1L;
+            UserRoleChangeRequest userRoleChangeRequest = new UserRoleChangeRequest(UserRole.ADMIN.name());
+            given(userRepository.updateRole(eq(userId), eq(UserRole.ADMIN), any())).willReturn(0);
+            given(userRepository.existsById(userId)).willReturn(true);
 
             // when
             userAdminService.changeUserRole(userId, userRoleChangeRequest);
 
             // then
-            assertEquals(user.getUserRole(), UserRole.ADMIN);
+            verify(userRoleVersionTable, never()).update(anyLong(), anyInt());
         }
     }
 }
@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.service;
 
 import org.example.expert.config.PasswordEncoder;
+import org.example.expert.config.TokenRevocationList;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
@@ -22,13 +23,19 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
     @Mock
     UserRepository userRepository;
 
+    @Mock
+    TokenRevocationList tokenRevocationList;
+
     @InjectMocks
     UserService userService;
 
@@ -147,6 +154,39 @@ public class UserServiceTest {
 
             // then
             assertTrue(passwordEncoder.matches("Newpassword1234!", user.getPassword()));
+            verify(tokenRevocationList, times(1)).revokeTokens(user.getId());
+        }
+
+        @Test
+        @DisplayName("비밀번호 변경 시 bcrypt 검증은 한 번만 수행된다.")
+        void test6() {
+            //given
+            UserChangePasswordRequest userChangePasswordRequest = new UserChangePasswordRequest("Password1234!", "Newpassword1234!");
+            AuthUser authUser = new AuthUser(1L, "a@a.com", UserRole.USER);
+            User user = User.fromAuthUser(authUser);
+            ReflectionTestUtils.setField(user, "password", passwordEncoder.encode("Password1234!"));
+
+            given(userRepository.findById(user.getId())).willReturn(Optional.of(user));
+
+            //when
+            userService.changePassword(user.getId(), userChangePasswordRequest);
+
+            // then
+            verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("UserService::validPassword()")
+    class Class3 {
+        @Test
+        @DisplayName("8자 이상이고 숫자와 대문자를 포함하면 유효하다.")
+        void test1() {
+            assertFalse(userService.validPassword("Password1234"));
+            assertTrue(userService.validPassword("Pass12"));
+            assertTrue(userService.validPassword("password1234"));
+            assertTrue(userService.validPassword("PASSWORDPASSWORD"));
+            assertTrue(userService.validPassword("Password١٢٣٤"));
         }
     }
 }
@@ -0,0 +1,28 @@
+package org.example.expert.support;
+
+import org.example.expert.config.QueryCounter;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주어진 코드가 실행한 SQL 개수를 검증합니다. 영속성 컨텍스트에 남은 엔티티 때문에
+ * 쿼리가 생략되지 않도록, 호출 전에 EntityManager 를 flush/clear 해 두어야 합니다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertQueryCount(long expected, ThrowingSupplier<T> supplier) {
+        QueryCounter.start();
+        try {
+            T result = assertDoesNotThrow(supplier);
+            assertEquals(expected, QueryCounter.current(), "실행된 SQL 개수");
+            return result;
+        } finally {
+            QueryCounter.stop();
+        }
+    }
+}